@@ -0,0 +1,40 @@
+package org.mydotey.scf.benchmark;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mydotey.scf.AbstractConfigurationSource;
+import org.mydotey.scf.ConfigurationSourceConfig;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class BenchmarkConfigurationSource extends AbstractConfigurationSource<ConfigurationSourceConfig> {
+
+    private Map<Object, Object> _properties;
+
+    public BenchmarkConfigurationSource(ConfigurationSourceConfig config, Map<?, ?> properties) {
+        super(config);
+
+        _properties = new ConcurrentHashMap<>(properties);
+    }
+
+    @Override
+    protected Object getPropertyValue(Object key) {
+        return _properties.get(key);
+    }
+
+    public void setPropertyValue(Object key, Object value) {
+        _properties.put(key, value);
+        raiseChangeEvent(Collections.singleton(key));
+    }
+
+    public void reload(Object key, Object value) {
+        _properties.put(key, value);
+        raiseChangeEvent();
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.mydotey.scf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mydotey.scf.ConfigurationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * create all the properties in a new manager
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColdCreationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ColdState extends ManagerState {
+
+        @Setup(Level.Trial)
+        @Override
+        public void setUp() {
+            super.setUp();
+        }
+
+        // new sources each time, the sources shared would keep all the managers created by their listeners
+        @Setup(Level.Invocation)
+        public void resetManager() {
+            sources = newSources();
+            manager = newManager();
+        }
+
+    }
+
+    @Benchmark
+    public ConfigurationManager createProperties(ColdState state) {
+        state.registerProperties();
+        return state.manager;
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.mydotey.scf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * getProperty for registered properties, and getPropertyValue one-shot lookups
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class GetPropertyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class WarmState extends ManagerState {
+
+        @Setup
+        @Override
+        public void setUp() {
+            super.setUp();
+            registerProperties();
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getProperty(WarmState state, ManagerState.Cursor cursor) {
+        return state.manager.getProperty(state.nextPropertyConfig(cursor)).getValue();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getProperty4Threads(WarmState state, ManagerState.Cursor cursor) {
+        return state.manager.getProperty(state.nextPropertyConfig(cursor)).getValue();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getPropertyValue(WarmState state, ManagerState.Cursor cursor) {
+        return state.manager.getPropertyValue(state.nextPropertyConfig(cursor));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getPropertyValue4Threads(WarmState state, ManagerState.Cursor cursor) {
+        return state.manager.getPropertyValue(state.nextPropertyConfig(cursor));
+    }
+
+}
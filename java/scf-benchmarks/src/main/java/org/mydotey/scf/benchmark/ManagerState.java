@@ -0,0 +1,160 @@
+package org.mydotey.scf.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.ConfigurationSource;
+import org.mydotey.scf.PropertyConfig;
+import org.mydotey.scf.facade.ConfigurationManagers;
+import org.mydotey.scf.facade.ConfigurationProperties;
+import org.mydotey.scf.facade.ConfigurationSources;
+import org.mydotey.scf.type.AbstractTypeConverter;
+import org.mydotey.scf.type.TypeConverter;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * a manager with sourceCount sources and propertyCount property configs
+ * <p>
+ * the lowest priority source has all the keys, a higher priority source has a part of the keys,
+ * so most lookups miss the higher priority sources
+ * <p>
+ * each property config has converterCount converters, only the last one applies,
+ * no converter and string value for converterCount 0
+ */
+@State(Scope.Benchmark)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ManagerState {
+
+    @Param({ "100", "10000" })
+    public int propertyCount;
+
+    @Param({ "1", "4" })
+    public int sourceCount;
+
+    @Param({ "0", "1", "4" })
+    public int converterCount;
+
+    public BenchmarkConfigurationSource[] sources;
+    public PropertyConfig[] propertyConfigs;
+    public ConfigurationManager manager;
+
+    public void setUp() {
+        sources = newSources();
+
+        List<TypeConverter> converters = new ArrayList<>();
+        for (int i = 1; i < converterCount; i++)
+            converters.add(new NotApplicableConverter(i));
+        if (converterCount > 0)
+            converters.add(new StringToIntConverter());
+
+        propertyConfigs = new PropertyConfig[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            PropertyConfig.Builder builder = ConfigurationProperties.newConfigBuilder().setKey(key(i));
+            if (converterCount > 0)
+                builder.setValueType(Integer.class).addValueConverters(converters);
+            else
+                builder.setValueType(String.class);
+            propertyConfigs[i] = builder.build();
+        }
+
+        manager = newManager();
+    }
+
+    /**
+     * a manager registers its listeners to the sources, new sources for a new manager,
+     * so that the old managers are not kept by the sources
+     */
+    public BenchmarkConfigurationSource[] newSources() {
+        BenchmarkConfigurationSource[] sources = new BenchmarkConfigurationSource[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            Map<String, String> properties = new HashMap<>();
+            for (int j = 0; j < propertyCount; j++) {
+                if (i == 0 || j % (sourceCount * 2) == i)
+                    properties.put(key(j), String.valueOf(j + i));
+            }
+            sources[i] = new BenchmarkConfigurationSource(ConfigurationSources.newConfig("source-" + i), properties);
+        }
+        return sources;
+    }
+
+    public ConfigurationManager newManager() {
+        Map<Integer, ConfigurationSource> sourceMap = new HashMap<>();
+        for (int i = 0; i < sourceCount; i++)
+            sourceMap.put(i + 1, sources[i]);
+        return ConfigurationManagers.newManager(
+            ConfigurationManagers.newConfigBuilder().setName("benchmark").addSources(sourceMap).build());
+    }
+
+    public void registerProperties() {
+        for (PropertyConfig propertyConfig : propertyConfigs)
+            manager.getProperty(propertyConfig);
+    }
+
+    public PropertyConfig nextPropertyConfig(Cursor cursor) {
+        int index = cursor.next++;
+        if (cursor.next == propertyConfigs.length)
+            cursor.next = 0;
+        return propertyConfigs[index];
+    }
+
+    public static String key(int index) {
+        return "key-" + index;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        public int next;
+
+    }
+
+    private static class StringToIntConverter extends AbstractTypeConverter<String, Integer> {
+
+        public StringToIntConverter() {
+            super(String.class, Integer.class);
+        }
+
+        @Override
+        public Integer convert(String source) {
+            return Integer.valueOf(source);
+        }
+
+    }
+
+    private static class NotApplicableConverter extends AbstractTypeConverter<Long, Integer> {
+
+        private int _id;
+
+        public NotApplicableConverter(int id) {
+            super(Long.class, Integer.class);
+
+            _id = id;
+        }
+
+        @Override
+        public Integer convert(Long source) {
+            return source.intValue();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && _id == ((NotApplicableConverter) obj)._id;
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode() * 31 + _id;
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.mydotey.scf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.mydotey.scf.PropertyConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * time from a source change until all the property change listeners are notified
+ * <p>
+ * changeMode key: a key-scoped change event, full: a full reload event
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceChangeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ChangeState extends ManagerState {
+
+        @Param({ "key", "full" })
+        public String changeMode;
+
+        public LongAdder notified;
+        public int round;
+
+        @Setup
+        @Override
+        public void setUp() {
+            super.setUp();
+            registerProperties();
+
+            notified = new LongAdder();
+            for (PropertyConfig<?, ?> propertyConfig : propertyConfigs)
+                manager.getProperty(propertyConfig).addChangeListener(e -> notified.increment());
+        }
+
+    }
+
+    @Benchmark
+    public long changeSource(ChangeState state) {
+        long expected = state.notified.sum() + 1;
+
+        // key-0 is only in the lowest priority source, so the change always takes effect
+        String value = String.valueOf(++state.round);
+        if ("key".equals(state.changeMode))
+            state.sources[0].setPropertyValue(ManagerState.key(0), value);
+        else
+            state.sources[0].reload(ManagerState.key(0), value);
+
+        while (state.notified.sum() < expected)
+            Thread.yield();
+        return expected;
+    }
+
+}
@@ -1,10 +1,14 @@
 package org.mydotey.scf;
 
-import java.util.ArrayList;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.mydotey.java.ObjectExtension;
@@ -21,14 +25,26 @@ public abstract class AbstractConfigurationSource<C extends ConfigurationSourceC
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractConfigurationSource.class);
 
+    private static final int CONVERTED_VALUES_SIZE = 1024;
+    private static final Set<Class<?>> IMMUTABLE_RAW_TYPES = new HashSet<>(Arrays.asList(String.class,
+        Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+        Double.class));
+
     private C _config;
 
-    private volatile List<Consumer<ConfigurationSourceChangeEvent>> _changeListeners;
+    private ListenerRegistry<Consumer<ConfigurationSourceChangeEvent>> _changeListeners;
+
+    // (key, config) -> last converted value, so that an unchanged raw value is not converted again
+    // bounded, 2-way set associative: a set of 2 adjacent slots,
+    // the races are benign since the entries are immutable
+    private ConvertedValue[] _convertedValues;
 
     public AbstractConfigurationSource(C config) {
         Objects.requireNonNull(config, "config is null");
 
         _config = config;
+        _changeListeners = new ListenerRegistry<>();
+        _convertedValues = new ConvertedValue[CONVERTED_VALUES_SIZE];
     }
 
     @Override
@@ -39,34 +55,152 @@ public abstract class AbstractConfigurationSource<C extends ConfigurationSourceC
     @Override
     public void addChangeListener(Consumer<ConfigurationSourceChangeEvent> changeListener) {
         Objects.requireNonNull(changeListener, "changeListener is null");
+        _changeListeners.add(changeListener);
+    }
 
-        synchronized (this) {
-            if (_changeListeners == null)
-                _changeListeners = new ArrayList<>();
+    @Override
+    public void addWeakChangeListener(Consumer<ConfigurationSourceChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        _changeListeners.addWeak(changeListener);
+    }
 
-            _changeListeners.add(changeListener);
-        }
+    @Override
+    public boolean removeChangeListener(Consumer<ConfigurationSourceChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        return _changeListeners.remove(changeListener);
     }
 
+    /**
+     * notify the listeners that the whole source changed
+     */
     protected void raiseChangeEvent() {
-        synchronized (this) {
-            if (_changeListeners == null)
-                return;
-
-            _changeListeners.forEach(l -> {
-                try {
-                    l.accept(new DefaultConfigurationSourceChangeEvent(AbstractConfigurationSource.this));
-                } catch (Exception e) {
-                    LOGGER.error("source change listener failed to run", e);
-                }
-            });
+        raiseChangeEvent(new DefaultConfigurationSourceChangeEvent(this));
+    }
+
+    /**
+     * notify the listeners that only the changedKeys changed,
+     * so that only the properties of the changedKeys need to be updated
+     */
+    protected void raiseChangeEvent(Collection<?> changedKeys) {
+        Objects.requireNonNull(changedKeys, "changedKeys is null");
+
+        if (changedKeys.isEmpty())
+            return;
+
+        raiseChangeEvent(new DefaultConfigurationSourceChangeEvent(this, changedKeys));
+    }
+
+    protected void raiseChangeEvent(ConfigurationSourceChangeEvent event) {
+        invalidateConvertedValues(event);
+
+        _changeListeners.forEach(l -> {
+            try {
+                l.accept(event);
+            } catch (Exception e) {
+                LOGGER.error("source change listener failed to run", e);
+            }
+        });
+    }
+
+    protected void invalidateConvertedValues(ConfigurationSourceChangeEvent event) {
+        Set<Object> changedKeys = event.isFullReload() ? null : event.getChangedKeys();
+        for (int i = 0; i < _convertedValues.length; i++) {
+            ConvertedValue convertedValue = _convertedValues[i];
+            if (convertedValue != null && (changedKeys == null || changedKeys.contains(convertedValue._key)))
+                _convertedValues[i] = null;
         }
     }
 
     @Override
     public <K, V> V getPropertyValue(PropertyConfig<K, V> propertyConfig) {
-        Object value = getPropertyValue(propertyConfig.getKey());
-        return convert(propertyConfig, value);
+        return toPropertyValue(propertyConfig, getPropertyValue(propertyConfig.getKey()));
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Map<PropertyConfig, Object> getPropertyValues(Collection<PropertyConfig> propertyConfigs) {
+        Set<Object> keys = new HashSet<>();
+        propertyConfigs.forEach(c -> keys.add(c.getKey()));
+        Map<Object, Object> rawValues = getPropertyValuesByKeys(keys);
+
+        Map<PropertyConfig, Object> values = new HashMap<>();
+        for (PropertyConfig<?, ?> propertyConfig : propertyConfigs) {
+            Object value = toPropertyValue(propertyConfig, rawValues.get(propertyConfig.getKey()));
+            if (value != null)
+                values.put(propertyConfig, value);
+        }
+
+        return values;
+    }
+
+    /**
+     * raw values of the keys, override it if the raw values can be got in one round trip or scan
+     * <p>
+     * by default, @see {@link #getPropertyValue(Object)} for each key
+     */
+    protected Map<Object, Object> getPropertyValuesByKeys(Set<Object> keys) {
+        Map<Object, Object> values = new HashMap<>();
+        keys.forEach(k -> {
+            Object value = getPropertyValue(k);
+            if (value != null)
+                values.put(k, value);
+        });
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <K, V> V toPropertyValue(PropertyConfig<K, V> propertyConfig, Object value) {
+        if (isNull(value))
+            return null;
+
+        if (!isImmutable(value))
+            return convert(propertyConfig, value);
+
+        K key = propertyConfig.getKey();
+        // by the config identity, so that the configs of a key with equal hash codes don't always collide
+        int hash = key.hashCode() * 31 + System.identityHashCode(propertyConfig);
+        int slot = (hash ^ (hash >>> 16)) & (_convertedValues.length - 2);
+        ConvertedValue convertedValue = _convertedValues[slot];
+        if (convertedValue == null || !convertedValue.matches(propertyConfig, value)) {
+            convertedValue = _convertedValues[slot + 1];
+            if (convertedValue == null || !convertedValue.matches(propertyConfig, value))
+                convertedValue = null;
+        }
+        if (convertedValue != null)
+            return (V) convertedValue.getValue();
+
+        V v = convert(propertyConfig, value);
+        // a mutable converted value is not shared, each caller gets its own conversion
+        if (v != value && (v == null || isImmutable(v)))
+            putConvertedValue(slot, new ConvertedValue(key, propertyConfig, value, v));
+        return v;
+    }
+
+    // replace the entry of the config or an empty one, otherwise the second one, and the first one moved to it
+    private void putConvertedValue(int slot, ConvertedValue convertedValue) {
+        PropertyConfig<?, ?> propertyConfig = convertedValue._propertyConfig.get();
+        ConvertedValue first = _convertedValues[slot];
+        if (first == null || first._propertyConfig.get() == propertyConfig) {
+            _convertedValues[slot] = convertedValue;
+            return;
+        }
+
+        ConvertedValue second = _convertedValues[slot + 1];
+        if (second == null || second._propertyConfig.get() == propertyConfig) {
+            _convertedValues[slot + 1] = convertedValue;
+            return;
+        }
+
+        _convertedValues[slot + 1] = first;
+        _convertedValues[slot] = convertedValue;
+    }
+
+    /**
+     * only the immutable raw values are memoized with the immutable converted values,
+     * a mutable one may be changed in place
+     */
+    protected boolean isImmutable(Object rawValue) {
+        return IMMUTABLE_RAW_TYPES.contains(rawValue.getClass()) || rawValue instanceof Enum;
     }
 
     protected abstract Object getPropertyValue(Object key);
@@ -76,6 +210,9 @@ public abstract class AbstractConfigurationSource<C extends ConfigurationSourceC
         if (isNull(value))
             return null;
 
+        if (propertyConfig instanceof DefaultPropertyConfig)
+            return ((DefaultPropertyConfig<K, V>) propertyConfig).getValueConverterTable().convert(value);
+
         Collection<TypeConverter> valueConverters = propertyConfig.getValueConverters() == null
             ? Collections.emptyList()
             : propertyConfig.getValueConverters();
@@ -95,6 +232,34 @@ public abstract class AbstractConfigurationSource<C extends ConfigurationSourceC
         return ObjectExtension.isNullOrEmpty(value);
     }
 
+    /**
+     * the config is held weakly, the canonical configs not used any more are not kept by the source
+     */
+    protected static class ConvertedValue {
+
+        private final Object _key;
+        private final WeakReference<PropertyConfig<?, ?>> _propertyConfig;
+        private final Object _rawValue;
+        private final Object _value;
+
+        public ConvertedValue(Object key, PropertyConfig<?, ?> propertyConfig, Object rawValue, Object value) {
+            _key = key;
+            _propertyConfig = new WeakReference<>(propertyConfig);
+            _rawValue = rawValue;
+            _value = value;
+        }
+
+        public boolean matches(PropertyConfig<?, ?> propertyConfig, Object rawValue) {
+            return _propertyConfig.get() == propertyConfig
+                && (_rawValue == rawValue || _rawValue.equals(rawValue));
+        }
+
+        public Object getValue() {
+            return _value;
+        }
+
+    }
+
     @Override
     public String toString() {
         return String.format("%s { config: %s, changeListeners: %s }", getClass().getSimpleName(), getConfig(),
@@ -0,0 +1,94 @@
+package org.mydotey.scf;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * bloom filter of the keys, no false negative, false positive at the configured rate
+ * <p>
+ * for a large key space, several bits per key instead of the keys. the keys are hashed by
+ * {@link Object#hashCode()}, so the keys should have well distributed hash codes, as String does
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class BloomKeyFilter implements KeyFilter {
+
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private long[] _bits;
+    private long _bitCount;
+    private int _hashCount;
+
+    public BloomKeyFilter(Collection<?> keys) {
+        this(keys, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * falsePositiveRate in (0, 1)
+     */
+    public BloomKeyFilter(Collection<?> keys, double falsePositiveRate) {
+        Objects.requireNonNull(keys, "keys is null");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("falsePositiveRate not in (0, 1): " + falsePositiveRate);
+
+        int keyCount = Math.max(keys.size(), 1);
+        long bitCount = (long) Math.ceil(-keyCount * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bitCount = Math.max(64, (bitCount + 63) / 64 * 64);
+        _bits = new long[(int) (bitCount / 64)];
+        _bitCount = bitCount;
+        // the optimal hash count for the rate, not more for the rounded up bits
+        _hashCount = Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / Math.log(2)));
+
+        for (Object key : keys) {
+            long hash = key == null ? 0 : key.hashCode();
+            for (int i = 0; i < _hashCount; i++) {
+                long bit = index(hash, i);
+                _bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+    }
+
+    @Override
+    public boolean mightContain(Object key) {
+        long hash = key == null ? 0 : key.hashCode();
+        for (int i = 0; i < _hashCount; i++) {
+            long bit = index(hash, i);
+            if ((_bits[(int) (bit >>> 6)] & (1L << bit)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    // the i-th hash, the hash code remixed with a different seed
+    private long index(long hash, int i) {
+        return (mix(hash + (i + 1) * 0x9e3779b97f4a7c15L) >>> 1) % _bitCount;
+    }
+
+    // the murmur3 finalizer, spreads the bits to the whole 64 bits
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public long getBitCount() {
+        return _bitCount;
+    }
+
+    public int getHashCount() {
+        return _hashCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { bitCount: %s, hashCount: %s }", getClass().getSimpleName(), _bitCount,
+            _hashCount);
+    }
+
+}
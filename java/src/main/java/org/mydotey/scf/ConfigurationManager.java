@@ -1,6 +1,12 @@
 package org.mydotey.scf;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -8,7 +14,7 @@ import java.util.function.Consumer;
  *
  * May 16, 2018
  */
-public interface ConfigurationManager {
+public interface ConfigurationManager extends AutoCloseable {
 
     /**
      * @see ConfigurationManagerConfig
@@ -31,6 +37,70 @@ public interface ConfigurationManager {
      */
     <K, V> Property<K, V> getProperty(PropertyConfig<K, V> propertyConfig);
 
+    /**
+     * same as @see {@link ConfigurationManager#getProperty(PropertyConfig)},
+     * and the value can be read as a primitive int without unboxing
+     * <p>
+     * valueType of the propertyConfig must be Integer
+     */
+    default <K> IntProperty<K> getIntProperty(PropertyConfig<K, Integer> propertyConfig) {
+        Property<K, Integer> property = getProperty(propertyConfig);
+        if (!(property instanceof IntProperty))
+            throw new IllegalArgumentException(
+                String.format("property is not a IntProperty, make sure the valueType is the primitive wrapper type: %s",
+                    propertyConfig));
+
+        return (IntProperty<K>) property;
+    }
+
+    /**
+     * same as @see {@link ConfigurationManager#getProperty(PropertyConfig)},
+     * and the value can be read as a primitive long without unboxing
+     * <p>
+     * valueType of the propertyConfig must be Long
+     */
+    default <K> LongProperty<K> getLongProperty(PropertyConfig<K, Long> propertyConfig) {
+        Property<K, Long> property = getProperty(propertyConfig);
+        if (!(property instanceof LongProperty))
+            throw new IllegalArgumentException(
+                String.format("property is not a LongProperty, make sure the valueType is the primitive wrapper type: %s",
+                    propertyConfig));
+
+        return (LongProperty<K>) property;
+    }
+
+    /**
+     * same as @see {@link ConfigurationManager#getProperty(PropertyConfig)},
+     * and the value can be read as a primitive double without unboxing
+     * <p>
+     * valueType of the propertyConfig must be Double
+     */
+    default <K> DoubleProperty<K> getDoubleProperty(PropertyConfig<K, Double> propertyConfig) {
+        Property<K, Double> property = getProperty(propertyConfig);
+        if (!(property instanceof DoubleProperty))
+            throw new IllegalArgumentException(
+                String.format("property is not a DoubleProperty, make sure the valueType is the primitive wrapper type: %s",
+                    propertyConfig));
+
+        return (DoubleProperty<K>) property;
+    }
+
+    /**
+     * same as @see {@link ConfigurationManager#getProperty(PropertyConfig)},
+     * and the value can be read as a primitive boolean without unboxing
+     * <p>
+     * valueType of the propertyConfig must be Boolean
+     */
+    default <K> BooleanProperty<K> getBooleanProperty(PropertyConfig<K, Boolean> propertyConfig) {
+        Property<K, Boolean> property = getProperty(propertyConfig);
+        if (!(property instanceof BooleanProperty))
+            throw new IllegalArgumentException(
+                String.format("property is not a BooleanProperty, make sure the valueType is the primitive wrapper type: %s",
+                    propertyConfig));
+
+        return (BooleanProperty<K>) property;
+    }
+
     /**
      * get property value in each configuration source by source priority
      * <p>
@@ -44,10 +114,160 @@ public interface ConfigurationManager {
      */
     <K, V> V getPropertyValue(PropertyConfig<K, V> propertyConfig);
 
+    /**
+     * same as @see {@link ConfigurationManager#getProperty(PropertyConfig)} for each propertyConfig,
+     * the properties not created yet are resolved together in one pass, @see {@link #getPropertyValues(Collection)}
+     * <p>
+     * key for the propertyConfig, value for the property, in the order of the propertyConfigs
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    default Map<PropertyConfig, Property> getProperties(Collection<PropertyConfig> propertyConfigs) {
+        Map<PropertyConfig, Property> properties = new LinkedHashMap<>();
+        for (PropertyConfig propertyConfig : propertyConfigs)
+            properties.put(propertyConfig, getProperty(propertyConfig));
+        return properties;
+    }
+
+    /**
+     * same as @see {@link ConfigurationManager#getPropertyValue(PropertyConfig)} for each propertyConfig,
+     * but each source is asked only once for all the propertyConfigs not resolved by the higher priority sources
+     * @see ConfigurationSource#getPropertyValues(Collection)
+     * <p>
+     * key for the propertyConfig, value for the property value (can be null), in the order of the propertyConfigs
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    default Map<PropertyConfig, Object> getPropertyValues(Collection<PropertyConfig> propertyConfigs) {
+        Map<PropertyConfig, Object> values = new LinkedHashMap<>();
+        for (PropertyConfig propertyConfig : propertyConfigs)
+            values.put(propertyConfig, getPropertyValue(propertyConfig));
+        return values;
+    }
+
+    /**
+     * remove the property of the key from the manager, and from the snapshot
+     * <p>
+     * the removed property is not updated any more, and a new property is created by the next
+     * {@link #getProperty(PropertyConfig)} of the key
+     * <p>
+     * return false if no property of the key, or if the manager does not remove properties, as by default
+     */
+    default boolean removeProperty(Object key) {
+        return false;
+    }
+
+    /**
+     * the created properties with String keys in the subtree of the prefix, key for the property key
+     * <p>
+     * "db.shards" for "db.shards" and "db.shards.*", empty prefix for all
+     * @see KeyTrie
+     */
+    @SuppressWarnings("rawtypes")
+    default Map<String, Property> getPropertiesByPrefix(String prefix) {
+        String childPrefix = prefix + ".";
+        Map<String, Property> properties = new HashMap<>();
+        for (Property property : getProperties()) {
+            Object key = property.getConfig().getKey();
+            if (!(key instanceof String))
+                continue;
+
+            String k = (String) key;
+            if (prefix.isEmpty() || k.equals(prefix) || k.startsWith(childPrefix))
+                properties.put(k, property);
+        }
+        return properties;
+    }
+
+    /**
+     * the keys in the subtree of the prefix, of the created properties and the enumerable sources
+     * <p>
+     * use it to find the keys not created as properties yet
+     * @see EnumerableConfigurationSource
+     */
+    default Set<String> getKeysByPrefix(String prefix) {
+        Set<String> keys = new HashSet<>(getPropertiesByPrefix(prefix).keySet());
+        for (ConfigurationSource source : getConfig().getSources().values()) {
+            if (source instanceof EnumerableConfigurationSource)
+                keys.addAll(((EnumerableConfigurationSource) source).getKeys(prefix));
+        }
+        return keys;
+    }
+
+    /**
+     * a live view of the properties in the subtree of the prefix, whose listeners are notified
+     * for the property changes in the subtree
+     * <p>
+     * not supported by default
+     */
+    default PropertySubtree getSubtree(String prefix) {
+        throw new UnsupportedOperationException("property subtree not supported by: " + getClass().getName());
+    }
+
+    /**
+     * an immutable view of the values of all the properties created by the manager,
+     * a new snapshot is published after the property values are updated by a source change
+     * <p>
+     * use it to read multiple values consistently, no lock for reading
+     * <p>
+     * by default, a new snapshot of version 0 copied from {@link #getProperties()} for each call,
+     * consistent only if no property updated during the copy
+     */
+    @SuppressWarnings("rawtypes")
+    default ConfigurationSnapshot snapshot() {
+        PersistentHashMap<Object, Object> values = PersistentHashMap.empty();
+        for (Property property : getProperties())
+            values = values.put(property.getConfig().getKey(), property.getValue());
+        return new DefaultConfigurationSnapshot(0, values);
+    }
+
     /**
      * listeners to the property change, notified once property changed
      */
     @SuppressWarnings("rawtypes")
     void addChangeListener(Consumer<PropertyChangeEvent> changeListener);
 
+    /**
+     * the listener is held by a weak reference, and removed once garbage collected
+     * <p>
+     * keep a strong reference to the listener as long as it is needed
+     * <p>
+     * not supported by default
+     */
+    @SuppressWarnings("rawtypes")
+    default void addWeakChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        throw new UnsupportedOperationException("weak change listener not supported by: " + getClass().getName());
+    }
+
+    /**
+     * return false if the listener is not added
+     * <p>
+     * not supported by default
+     */
+    @SuppressWarnings("rawtypes")
+    default boolean removeChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        throw new UnsupportedOperationException("change listener removal not supported by: " + getClass().getName());
+    }
+
+    /**
+     * wait until the source changes raised before this call are applied to the properties
+     * <p>
+     * return at once if the source changes are applied in the raising thread, as by default
+     * @see ConfigurationManagerConfig#isAsyncReconciliation()
+     * @return false if timeout
+     * @throws InterruptedException
+     */
+    default boolean awaitSourceChanges(long timeout, TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    /**
+     * stop listening to the sources and release the manager owned threads,
+     * the properties are not updated any more
+     * <p>
+     * a closed manager can still read the sources and create properties, nothing to do by default
+     */
+    @Override
+    default void close() {
+
+    }
+
 }
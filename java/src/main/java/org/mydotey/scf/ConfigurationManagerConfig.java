@@ -3,6 +3,8 @@ package org.mydotey.scf;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.mydotey.scf.metrics.ConfigurationMetrics;
+
 /**
  * @author koqizhao
  *
@@ -35,10 +37,95 @@ public interface ConfigurationManagerConfig {
      * if property count is too large, or the property change listeners are too slow,
      * it's better to use an async thread pool
      * <p>
-     * a simple Thread Pool utility: @see org.mydotey.scf.threading.TaskExecutor
+     * if the events of a property are required to be delivered in order, use
+     * org.mydotey.scf.threading.StripedTaskExecutor, the events are run serially per property key,
+     * and in parallel across property keys
+     * @see org.mydotey.scf.threading.StripedTaskExecutor
      */
     Consumer<Runnable> getTaskExecutor();
 
+    /**
+     * milliseconds to wait for more source changes before updating the properties
+     * <p>
+     * by default 0, properties are updated at once in the source change raising thread
+     * <p>
+     * if greater than 0, the source changes in the window are collapsed into one update
+     * done in a manager owned thread, at most the window later than the first change
+     */
+    default long getSourceChangeCoalescingWindow() {
+        return 0;
+    }
+
+    /**
+     * whether the source changes are applied in a manager owned reconciler thread
+     * <p>
+     * by default false, properties are updated in the source change raising thread,
+     * and new property creation waits for the update
+     * <p>
+     * if true, the source changes are queued, and the reconciler resolves the new values
+     * without blocking new property creation, the raising thread returns at once
+     * <p>
+     * a non-zero source change coalescing window implies the reconciler too
+     * @see ConfigurationManager#awaitSourceChanges(long, java.util.concurrent.TimeUnit)
+     */
+    default boolean isAsyncReconciliation() {
+        return false;
+    }
+
+    /**
+     * whether the manager owned threads are virtual threads
+     * <p>
+     * by default false
+     * <p>
+     * if true and running on Java 21+, the reconciler runs in a virtual thread, and if no task executor set,
+     * property change listeners run in virtual threads, in order for a property, in parallel across properties
+     * <p>
+     * ignored on the older Java versions
+     * @see org.mydotey.scf.threading.VirtualThreads
+     */
+    default boolean isVirtualThreadsEnabled() {
+        return false;
+    }
+
+    /**
+     * metrics of the lookups, the source hits and failures, the value filter rejections,
+     * the property updates and the change event dispatches
+     * <p>
+     * by default null, nothing recorded and no timing overhead
+     * @see org.mydotey.scf.metrics.DefaultConfigurationMetrics
+     */
+    default ConfigurationMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * maximum count of the values cached for {@link ConfigurationManager#getPropertyValue(PropertyConfig)}
+     * <p>
+     * by default 0, no cache, every lookup resolves the value through the sources
+     * <p>
+     * if greater than 0, the resolved values are cached, and invalidated by the source changes of their keys,
+     * for the frequent lookups of the keys not registered as properties. when full, a new key is cached only if
+     * it's looked up more frequently than the evicted one
+     */
+    default int getValueCacheSize() {
+        return 0;
+    }
+
+    /**
+     * whether the properties without listeners are held weakly by the manager
+     * <p>
+     * by default false, a property created is held by the manager until removed by
+     * {@link ConfigurationManager#removeProperty(Object)}
+     * <p>
+     * if true, a property without property change listeners is dropped once it's not referenced by the app,
+     * so that the properties of the generated keys do not pile up, and are not updated on the source changes.
+     * a property with listeners is held strongly until its listeners are removed.
+     * a dropped property is created again by the next {@link ConfigurationManager#getProperty(PropertyConfig)}
+     */
+    default boolean isWeakPropertyRegistry() {
+        return false;
+    }
+
     public interface Builder extends AbstractBuilder<Builder, ConfigurationManagerConfig> {
 
     }
@@ -69,6 +156,60 @@ public interface ConfigurationManagerConfig {
          */
         B setTaskExecutor(Consumer<Runnable> taskExecutor);
 
+        /**
+         * optional
+         * @see ConfigurationManagerConfig#getSourceChangeCoalescingWindow()
+         */
+        default B setSourceChangeCoalescingWindow(long milliseconds) {
+            throw new UnsupportedOperationException(
+                "source change coalescing window not supported by the builder: " + getClass().getName());
+        }
+
+        /**
+         * optional
+         * @see ConfigurationManagerConfig#isAsyncReconciliation()
+         */
+        default B setAsyncReconciliation(boolean asyncReconciliation) {
+            throw new UnsupportedOperationException(
+                "async reconciliation not supported by the builder: " + getClass().getName());
+        }
+
+        /**
+         * optional
+         * @see ConfigurationManagerConfig#isVirtualThreadsEnabled()
+         */
+        default B setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+            throw new UnsupportedOperationException(
+                "virtual threads not supported by the builder: " + getClass().getName());
+        }
+
+        /**
+         * optional
+         * @see ConfigurationManagerConfig#getMetrics()
+         */
+        default B setMetrics(ConfigurationMetrics metrics) {
+            throw new UnsupportedOperationException(
+                "metrics not supported by the builder: " + getClass().getName());
+        }
+
+        /**
+         * optional
+         * @see ConfigurationManagerConfig#getValueCacheSize()
+         */
+        default B setValueCacheSize(int valueCacheSize) {
+            throw new UnsupportedOperationException(
+                "value cache not supported by the builder: " + getClass().getName());
+        }
+
+        /**
+         * optional
+         * @see ConfigurationManagerConfig#isWeakPropertyRegistry()
+         */
+        default B setWeakPropertyRegistry(boolean weakPropertyRegistry) {
+            throw new UnsupportedOperationException(
+                "weak property registry not supported by the builder: " + getClass().getName());
+        }
+
         C build();
 
     }
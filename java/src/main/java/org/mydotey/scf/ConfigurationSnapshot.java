@@ -0,0 +1,48 @@
+package org.mydotey.scf;
+
+import java.util.function.BiConsumer;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * an immutable view of the values of all the properties in a configuration manager,
+ * values of different properties read from the same snapshot are always consistent
+ * 
+ * @see ConfigurationManager#snapshot()
+ */
+public interface ConfigurationSnapshot {
+
+    /**
+     * increased each time the manager publishes a new snapshot,
+     * a snapshot with a greater version is newer
+     */
+    long getVersion();
+
+    /**
+     * count of the properties in the snapshot
+     */
+    int size();
+
+    /**
+     * whether there is a property with the key in the snapshot
+     */
+    boolean containsKey(Object key);
+
+    /**
+     * value of the property with the key, null if the property is not in the snapshot
+     */
+    Object getValue(Object key);
+
+    /**
+     * value of the property with the key of the propertyConfig, null if the property is not in the snapshot
+     */
+    <K, V> V getValue(PropertyConfig<K, V> propertyConfig);
+
+    /**
+     * iterate the property keys and values in the snapshot
+     */
+    void forEach(BiConsumer<Object, Object> action);
+
+}
@@ -1,5 +1,8 @@
 package org.mydotey.scf;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -25,6 +28,24 @@ public interface ConfigurationSource {
      */
     <K, V> V getPropertyValue(PropertyConfig<K, V> propertyConfig);
 
+    /**
+     * get property values of the property configs in one batch,
+     * a source can override it to get all the values in one round trip or scan
+     * <p>
+     * same as @see {@link #getPropertyValue(PropertyConfig)} for each property config,
+     * the returned map only contains the property configs with non-null value
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    default Map<PropertyConfig, Object> getPropertyValues(Collection<PropertyConfig> propertyConfigs) {
+        Map<PropertyConfig, Object> values = new HashMap<>();
+        for (PropertyConfig propertyConfig : propertyConfigs) {
+            Object value = getPropertyValue(propertyConfig);
+            if (value != null)
+                values.put(propertyConfig, value);
+        }
+        return values;
+    }
+
     /**
      * listeners to the source change, notified once source changed
      * <p>
@@ -32,4 +53,24 @@ public interface ConfigurationSource {
      */
     void addChangeListener(Consumer<ConfigurationSourceChangeEvent> changeListener);
 
+    /**
+     * the listener is held by a weak reference, and removed once garbage collected
+     * <p>
+     * keep a strong reference to the listener as long as it is needed
+     * <p>
+     * not supported by default
+     */
+    default void addWeakChangeListener(Consumer<ConfigurationSourceChangeEvent> changeListener) {
+        throw new UnsupportedOperationException("weak change listener not supported by: " + getClass().getName());
+    }
+
+    /**
+     * return false if the listener is not added
+     * <p>
+     * not supported by default
+     */
+    default boolean removeChangeListener(Consumer<ConfigurationSourceChangeEvent> changeListener) {
+        throw new UnsupportedOperationException("change listener removal not supported by: " + getClass().getName());
+    }
+
 }
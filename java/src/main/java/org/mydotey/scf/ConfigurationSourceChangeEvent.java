@@ -1,5 +1,7 @@
 package org.mydotey.scf;
 
+import java.util.Set;
+
 /**
  * @author koqizhao
  *
@@ -11,4 +13,24 @@ public interface ConfigurationSourceChangeEvent {
 
     long getChangeTime();
 
+    /**
+     * keys changed in the source
+     * <p>
+     * null if the source doesn't know which keys changed, @see {@link #isFullReload()}
+     * <p>
+     * null by default
+     */
+    default Set<Object> getChangedKeys() {
+        return null;
+    }
+
+    /**
+     * whether the whole source should be treated as changed
+     * <p>
+     * true if the changed keys are not provided
+     */
+    default boolean isFullReload() {
+        return getChangedKeys() == null;
+    }
+
 }
@@ -0,0 +1,29 @@
+package org.mydotey.scf;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultBooleanProperty<K> extends DefaultProperty<K, Boolean> implements BooleanProperty<K> {
+
+    private volatile boolean _booleanValue;
+
+    public DefaultBooleanProperty(PropertyConfig<K, Boolean> config, Boolean value, ConfigurationSource source) {
+        super(config, value, source);
+
+        _booleanValue = value == null ? false : value;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return _booleanValue;
+    }
+
+    @Override
+    protected void update(Boolean value, ConfigurationSource source) {
+        _booleanValue = value == null ? false : value;
+        super.update(value, source);
+    }
+
+}
@@ -1,16 +1,33 @@
 package org.mydotey.scf;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import org.mydotey.scf.metrics.ConfigurationMetrics;
+import org.mydotey.scf.threading.StripedTaskExecutor;
+import org.mydotey.scf.threading.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,10 +51,49 @@ public class DefaultConfigurationManager implements ConfigurationManager {
     private ConfigurationManagerConfig _config;
     private Map<Integer, ConfigurationSource> _sortedSources;
 
+    private Map<ConfigurationSource, Integer> _sourcePriorities;
+
+    // the properties held strongly, in the weak registry mode, the ones with listeners
     private ConcurrentHashMap<Object, DefaultProperty> _properties;
     private Object _propertiesLock;
 
-    private volatile List<Consumer<PropertyChangeEvent>> _changeListeners;
+    // the properties without listeners in the weak registry mode, null if not in the mode
+    private ConcurrentHashMap<Object, PropertyReference> _weakProperties;
+    private ReferenceQueue<DefaultProperty> _collectedProperties;
+
+    // the source each property value is resolved from, null for no source, keyed by the property key,
+    // guarded by _propertiesLock
+    private Map<Object, ConfigurationSource> _propertySources;
+    private Map<ConfigurationSource, Set<Object>> _sourceProperties;
+
+    private volatile DefaultConfigurationSnapshot _snapshot;
+
+    // source -> changed keys, null keys for a full reload, guarded by itself
+    private Map<ConfigurationSource, Set<Object>> _pendingSourceChanges;
+    private volatile ScheduledExecutorService _reconciler;
+    // the listener added to the sources, removed when closed
+    private Consumer<ConfigurationSourceChangeEvent> _sourceChangeListener;
+    // set in the _pendingSourceChanges lock
+    private volatile boolean _closed;
+    // source change count queued and applied by the reconciler, guarded by _pendingSourceChanges
+    private long _submittedSourceChanges;
+    private long _appliedSourceChanges;
+
+    private ListenerRegistry<Consumer<PropertyChangeEvent>> _changeListeners;
+
+    // the properties and the subtree listeners with String keys, for the prefix queries
+    private KeyTrie<String> _propertyTrie;
+    private KeyTrie<ListenerRegistry<Consumer<PropertyChangeEvent>>> _subtreeListeners;
+    private volatile boolean _hasSubtreeListeners;
+
+    // null for no metrics, so that nothing is timed
+    private ConfigurationMetrics _metrics;
+
+    // null for no cache
+    private ValueCache _valueCache;
+
+    // the sources skipped by their key filters, counted with or without metrics
+    private LongAdder _sourceSkips;
 
     public DefaultConfigurationManager(ConfigurationManagerConfig config) {
         Objects.requireNonNull(config, "config is null");
@@ -47,11 +103,42 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         _sortedSources = new TreeMap<>(PRIORITY_COMPARATOR);
         _sortedSources.putAll(_config.getSources());
         _sortedSources = Collections.unmodifiableMap(_sortedSources);
-        _sortedSources.values().forEach(s -> s.addChangeListener(this::onSourceChange));
+
+        _sourcePriorities = new LinkedHashMap<>();
+        _sortedSources.forEach((p, s) -> _sourcePriorities.putIfAbsent(s, p));
+        _sourcePriorities = Collections.unmodifiableMap(_sourcePriorities);
 
         _properties = new ConcurrentHashMap<>();
         _propertiesLock = new Object();
 
+        if (_config.isWeakPropertyRegistry()) {
+            _weakProperties = new ConcurrentHashMap<>();
+            _collectedProperties = new ReferenceQueue<>();
+        }
+
+        _propertySources = new HashMap<>();
+        _sourceProperties = new HashMap<>();
+        _sourcePriorities.keySet().forEach(s -> _sourceProperties.put(s, new HashSet<>()));
+        _sourceProperties.put(null, new HashSet<>());
+
+        _snapshot = new DefaultConfigurationSnapshot();
+
+        _pendingSourceChanges = new HashMap<>();
+
+        _changeListeners = new ListenerRegistry<>();
+
+        _propertyTrie = new KeyTrie<>();
+        _subtreeListeners = new KeyTrie<>();
+
+        _metrics = _config.getMetrics();
+        _sourceSkips = new LongAdder();
+
+        if (_config.getValueCacheSize() > 0)
+            _valueCache = new ValueCache(_config.getValueCacheSize());
+
+        _sourceChangeListener = this::onSourceChange;
+        _sourcePriorities.keySet().forEach(s -> s.addChangeListener(_sourceChangeListener));
+
         LOGGER.info("Configuration Manager created: {}", toString());
     }
 
@@ -62,7 +149,28 @@ public class DefaultConfigurationManager implements ConfigurationManager {
 
     @Override
     public Collection<Property> getProperties() {
-        return Collections.unmodifiableCollection(_properties.values());
+        if (_weakProperties == null)
+            return Collections.unmodifiableCollection(_properties.values());
+
+        List<Property> properties = new ArrayList<>(_properties.values());
+        _weakProperties.values().forEach(r -> {
+            DefaultProperty property = r.get();
+            if (property != null)
+                properties.add(property);
+        });
+        return Collections.unmodifiableList(properties);
+    }
+
+    /**
+     * the property registered for the key, null if none
+     */
+    protected DefaultProperty getRegisteredProperty(Object key) {
+        DefaultProperty property = _properties.get(key);
+        if (property != null || _weakProperties == null)
+            return property;
+
+        PropertyReference reference = _weakProperties.get(key);
+        return reference == null ? null : reference.get();
     }
 
     protected Map<Integer, ConfigurationSource> getSortedSources() {
@@ -73,20 +181,21 @@ public class DefaultConfigurationManager implements ConfigurationManager {
     public <K, V> Property<K, V> getProperty(PropertyConfig<K, V> propertyConfig) {
         Objects.requireNonNull(propertyConfig, "propertyConfig is null");
 
-        DefaultProperty<K, V> property = _properties.get(propertyConfig.getKey());
+        DefaultProperty<K, V> property = getRegisteredProperty(propertyConfig.getKey());
         if (property == null) {
             synchronized (_propertiesLock) {
-                property = _properties.get(propertyConfig.getKey());
+                property = getRegisteredProperty(propertyConfig.getKey());
                 if (property == null) {
                     Tuple<V, ConfigurationSource> valueSource = doGetPropertyValue(propertyConfig);
                     checkRequired(propertyConfig, valueSource.getV());
-                    property = newProperty(propertyConfig, valueSource.getV(), valueSource.getV2());
-                    _properties.put(propertyConfig.getKey(), property);
+                    property = addProperty(propertyConfig, valueSource);
                 }
             }
         }
 
-        if (!Objects.equals(property.getConfig(), propertyConfig))
+        // configs built by the default builders are canonical, check identity first
+        PropertyConfig<K, V> config = property.getConfig();
+        if (config != propertyConfig && !Objects.equals(config, propertyConfig))
             throw new IllegalArgumentException(
                 String.format("make sure using same config for property: %s, previous config: %s, current Config: %s",
                     propertyConfig.getKey(), property.getConfig(), propertyConfig));
@@ -94,28 +203,425 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         return property;
     }
 
+    @Override
+    public Map<PropertyConfig, Property> getProperties(Collection<PropertyConfig> propertyConfigs) {
+        Objects.requireNonNull(propertyConfigs, "propertyConfigs is null");
+
+        List<PropertyConfig> missing = new ArrayList<>();
+        propertyConfigs.forEach(c -> {
+            Objects.requireNonNull(c, "propertyConfig is null");
+            if (getRegisteredProperty(c.getKey()) == null)
+                missing.add(c);
+        });
+
+        // hold the created ones, so that they are not dropped before returned in the weak registry mode
+        Map<Object, DefaultProperty> created = new HashMap<>();
+        if (!missing.isEmpty()) {
+            synchronized (_propertiesLock) {
+                missing.removeIf(c -> getRegisteredProperty(c.getKey()) != null);
+                Map<PropertyConfig, Tuple<Object, ConfigurationSource>> valueSources = doGetPropertyValues(missing);
+                // check all before adding any, so that no property is added if a required one fails
+                valueSources.forEach((c, vs) -> checkRequired(c, vs.getV()));
+                valueSources.forEach((c, vs) -> {
+                    if (getRegisteredProperty(c.getKey()) == null)
+                        created.put(c.getKey(), addProperty(c, vs));
+                });
+            }
+        }
+
+        Map<PropertyConfig, Property> properties = new LinkedHashMap<>();
+        propertyConfigs.forEach(c -> {
+            DefaultProperty property = created.get(c.getKey());
+            properties.put(c, property != null && property.getConfig() == c ? property : getProperty(c));
+        });
+        return properties;
+    }
+
+    protected <K, V> DefaultProperty<K, V> addProperty(PropertyConfig<K, V> propertyConfig,
+        Tuple<V, ConfigurationSource> valueSource) {
+        DefaultProperty<K, V> property = newProperty(propertyConfig, valueSource.getV(), valueSource.getV2());
+        Object key = propertyConfig.getKey();
+        if (_weakProperties == null)
+            _properties.put(key, property);
+        else {
+            expungeCollectedProperties();
+            _weakProperties.put(key, new PropertyReference(property, _collectedProperties));
+            property.setListenersObserver(this::onPropertyListenersChanged);
+        }
+
+        if (key instanceof String)
+            _propertyTrie.put((String) key, (String) key);
+        indexPropertySource(property, valueSource.getV2());
+        publishSnapshot(Collections.singletonList(property));
+        return property;
+    }
+
+    @Override
+    public boolean removeProperty(Object key) {
+        Objects.requireNonNull(key, "key is null");
+
+        synchronized (_propertiesLock) {
+            DefaultProperty property = _properties.remove(key);
+            boolean removed = property != null;
+            if (!removed && _weakProperties != null) {
+                PropertyReference reference = _weakProperties.remove(key);
+                removed = reference != null;
+                property = reference == null ? null : reference.get();
+            }
+
+            if (!removed)
+                return false;
+
+            if (property != null)
+                property.setListenersObserver(null);
+            unregisterProperties(Collections.singletonList(key));
+            return true;
+        }
+    }
+
+    /**
+     * drop the index entries and the snapshot values of the removed properties, guarded by _propertiesLock
+     */
+    protected void unregisterProperties(Collection<Object> keys) {
+        PersistentHashMap<Object, Object> values = _snapshot.getValues();
+        for (Object key : keys) {
+            if (key instanceof String)
+                _propertyTrie.remove((String) key);
+
+            if (_propertySources.containsKey(key))
+                _sourceProperties.get(_propertySources.remove(key)).remove(key);
+
+            values = values.remove(key);
+        }
+
+        _snapshot = new DefaultConfigurationSnapshot(_snapshot.getVersion() + 1, values);
+    }
+
+    /**
+     * unregister the properties garbage collected in the weak registry mode, guarded by _propertiesLock
+     */
+    protected void expungeCollectedProperties() {
+        if (_collectedProperties == null)
+            return;
+
+        List<Object> keys = new ArrayList<>();
+        for (Reference reference; (reference = _collectedProperties.poll()) != null;) {
+            PropertyReference propertyReference = (PropertyReference) reference;
+            if (_weakProperties.remove(propertyReference.getKey(), propertyReference))
+                keys.add(propertyReference.getKey());
+        }
+
+        if (!keys.isEmpty())
+            unregisterProperties(keys);
+    }
+
+    /**
+     * in the weak registry mode, hold the property strongly while it has listeners, weakly otherwise
+     */
+    protected void onPropertyListenersChanged(DefaultProperty property) {
+        Object key = property.getConfig().getKey();
+        synchronized (_propertiesLock) {
+            if (property.hasChangeListeners()) {
+                PropertyReference reference = _weakProperties.get(key);
+                if (reference == null || reference.get() != property)
+                    return;
+
+                // registered in both for a moment, so that a lock-free reader always finds it
+                _properties.put(key, property);
+                _weakProperties.remove(key, reference);
+                return;
+            }
+
+            if (_properties.get(key) != property)
+                return;
+
+            _weakProperties.put(key, new PropertyReference(property, _collectedProperties));
+            _properties.remove(key, property);
+        }
+    }
+
+    @Override
+    public Map<String, Property> getPropertiesByPrefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+
+        Map<String, Property> properties = new HashMap<>();
+        _propertyTrie.forEach(prefix, (k, v) -> {
+            DefaultProperty property = getRegisteredProperty(k);
+            if (property != null)
+                properties.put(k, property);
+        });
+        return properties;
+    }
+
+    @Override
+    public Set<String> getKeysByPrefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+
+        Set<String> keys = _propertyTrie.getKeys(prefix);
+        for (ConfigurationSource source : _sourcePriorities.keySet()) {
+            if (!(source instanceof EnumerableConfigurationSource))
+                continue;
+
+            try {
+                keys.addAll(((EnumerableConfigurationSource) source).getKeys(prefix));
+            } catch (Exception e) {
+                String message = String.format(
+                    "error occurred when getting keys, ignore the source. source: %s, prefix: %s", source, prefix);
+                LOGGER.error(message, e);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public PropertySubtree getSubtree(String prefix) {
+        return new DefaultPropertySubtree(this, prefix);
+    }
+
+    void addSubtreeListener(String prefix, Consumer<PropertyChangeEvent> changeListener, boolean weak) {
+        synchronized (_subtreeListeners) {
+            ListenerRegistry<Consumer<PropertyChangeEvent>> listeners = _subtreeListeners.computeIfAbsent(prefix,
+                k -> new ListenerRegistry<>());
+            if (weak)
+                listeners.addWeak(changeListener);
+            else
+                listeners.add(changeListener);
+            _hasSubtreeListeners = true;
+        }
+    }
+
+    /**
+     * the registry of the prefix is pruned once empty, and the subtree dispatch is skipped once none left
+     */
+    boolean removeSubtreeListener(String prefix, Consumer<PropertyChangeEvent> changeListener) {
+        synchronized (_subtreeListeners) {
+            ListenerRegistry<Consumer<PropertyChangeEvent>> listeners = _subtreeListeners.get(prefix);
+            if (listeners == null)
+                return false;
+
+            boolean removed = listeners.remove(changeListener);
+            if (listeners.isEmpty()) {
+                _subtreeListeners.remove(prefix);
+                _hasSubtreeListeners = !_subtreeListeners.isEmpty();
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public ConfigurationSnapshot snapshot() {
+        return _snapshot;
+    }
+
+    /**
+     * publish a new snapshot with the current values of the properties, guarded by _propertiesLock
+     */
+    protected void publishSnapshot(Collection<DefaultProperty> properties) {
+        DefaultConfigurationSnapshot snapshot = _snapshot;
+        PersistentHashMap<Object, Object> values = snapshot.getValues();
+        for (DefaultProperty property : properties)
+            values = values.put(property.getConfig().getKey(), property.getValue());
+        _snapshot = new DefaultConfigurationSnapshot(snapshot.getVersion() + 1, values);
+    }
+
+    @Override
+    public <K> IntProperty<K> getIntProperty(PropertyConfig<K, Integer> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), IntProperty.class);
+    }
+
+    @Override
+    public <K> LongProperty<K> getLongProperty(PropertyConfig<K, Long> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), LongProperty.class);
+    }
+
+    @Override
+    public <K> DoubleProperty<K> getDoubleProperty(PropertyConfig<K, Double> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), DoubleProperty.class);
+    }
+
+    @Override
+    public <K> BooleanProperty<K> getBooleanProperty(PropertyConfig<K, Boolean> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), BooleanProperty.class);
+    }
+
+    protected <P extends Property> P toPrimitiveProperty(Property property, Class<P> propertyType) {
+        if (!propertyType.isInstance(property))
+            throw new IllegalArgumentException(
+                String.format("property is not a %s, make sure the valueType is the primitive wrapper type: %s",
+                    propertyType.getSimpleName(), property.getConfig()));
+
+        return (P) property;
+    }
+
     @Override
     public <K, V> V getPropertyValue(PropertyConfig<K, V> propertyConfig) {
-        Tuple<V, ConfigurationSource> valueSource = doGetPropertyValue(propertyConfig);
-        checkRequired(propertyConfig, valueSource.getV());
-        return valueSource.getV();
+        if (_valueCache == null) {
+            Tuple<V, ConfigurationSource> valueSource = doGetPropertyValue(propertyConfig);
+            checkRequired(propertyConfig, valueSource.getV());
+            return valueSource.getV();
+        }
+
+        Objects.requireNonNull(propertyConfig, "propertyConfig is null");
+
+        V value;
+        ValueCache.Entry entry = _valueCache.get(propertyConfig);
+        if (entry != null)
+            value = (V) entry.getValue();
+        else {
+            long generation = _valueCache.getGeneration();
+            Tuple<V, ConfigurationSource> valueSource = doGetPropertyValue(propertyConfig);
+            _valueCache.put(propertyConfig, valueSource.getV(), valueSource.getV2(), generation);
+            value = valueSource.getV();
+        }
+
+        checkRequired(propertyConfig, value);
+        return value;
+    }
+
+    @Override
+    public Map<PropertyConfig, Object> getPropertyValues(Collection<PropertyConfig> propertyConfigs) {
+        Objects.requireNonNull(propertyConfigs, "propertyConfigs is null");
+
+        Map<PropertyConfig, Tuple<Object, ConfigurationSource>> valueSources = doGetPropertyValues(propertyConfigs);
+        Map<PropertyConfig, Object> values = new LinkedHashMap<>();
+        propertyConfigs.forEach(c -> {
+            Object value = valueSources.get(c).getV();
+            checkRequired(c, value);
+            values.put(c, value);
+        });
+        return values;
+    }
+
+    /**
+     * resolve the property configs source by source, a source is asked only for the ones not resolved yet
+     */
+    protected Map<PropertyConfig, Tuple<Object, ConfigurationSource>> doGetPropertyValues(
+        Collection<PropertyConfig> propertyConfigs) {
+        long start = _metrics == null ? 0 : System.nanoTime();
+        Map<PropertyConfig, Tuple<Object, ConfigurationSource>> valueSources = new HashMap<>();
+        Collection<PropertyConfig> pending = new LinkedHashSet<>();
+        for (PropertyConfig propertyConfig : propertyConfigs)
+            pending.add(Objects.requireNonNull(propertyConfig, "propertyConfig is null"));
+
+        for (ConfigurationSource source : _sortedSources.values()) {
+            if (pending.isEmpty())
+                break;
+
+            KeyFilter keyFilter = getKeyFilter(source);
+            List<PropertyConfig> candidates = new ArrayList<>();
+            List<PropertyConfig> unresolved = new ArrayList<>();
+            for (PropertyConfig propertyConfig : pending) {
+                if (mightContain(source, keyFilter, propertyConfig.getKey()))
+                    candidates.add(propertyConfig);
+                else
+                    unresolved.add(propertyConfig);
+            }
+
+            Map<PropertyConfig, Object> values = candidates.isEmpty() ? Collections.emptyMap()
+                : getPropertyValues(source, candidates);
+            for (PropertyConfig propertyConfig : candidates) {
+                Object value = values.get(propertyConfig);
+                recordSourceResult(source, value);
+                value = applyValueFilter(source, propertyConfig, value);
+                if (value == null)
+                    unresolved.add(propertyConfig);
+                else
+                    valueSources.put(propertyConfig, new Tuple<>(value, source));
+            }
+            pending = unresolved;
+        }
+
+        for (PropertyConfig propertyConfig : pending)
+            valueSources.put(propertyConfig, new Tuple<>(propertyConfig.getDefaultValue(), null));
+        recordLookup(start);
+        return valueSources;
+    }
+
+    protected Map<PropertyConfig, Object> getPropertyValues(ConfigurationSource source,
+        Collection<PropertyConfig> propertyConfigs) {
+        try {
+            Map<PropertyConfig, Object> values = source.getPropertyValues(propertyConfigs);
+            if (values != null)
+                return values;
+        } catch (Exception e) {
+            String message = String.format(
+                "error occurred when getting property values, ignore the source. source: %s, propertyConfigs: %s",
+                source, propertyConfigs);
+            LOGGER.error(message, e);
+            if (_metrics != null)
+                _metrics.recordSourceFailure(_sourcePriorities.get(source));
+        }
+
+        return Collections.emptyMap();
     }
 
     protected <K, V> Tuple<V, ConfigurationSource> doGetPropertyValue(PropertyConfig<K, V> propertyConfig) {
         Objects.requireNonNull(propertyConfig, "propertyConfig is null");
 
+        long start = _metrics == null ? 0 : System.nanoTime();
         for (ConfigurationSource source : _sortedSources.values()) {
+            if (!mightContain(source, getKeyFilter(source), propertyConfig.getKey()))
+                continue;
+
             V value = getPropertyValue(source, propertyConfig);
+            recordSourceResult(source, value);
 
             value = applyValueFilter(source, propertyConfig, value);
 
-            if (value != null)
+            if (value != null) {
+                recordLookup(start);
                 return new Tuple<V, ConfigurationSource>(value, source);
+            }
         }
 
+        recordLookup(start);
         return new Tuple<V, ConfigurationSource>(propertyConfig.getDefaultValue(), null);
     }
 
+    /**
+     * the key filter of the source, null if the source is always asked
+     */
+    protected KeyFilter getKeyFilter(ConfigurationSource source) {
+        if (!(source instanceof KeyFilteredConfigurationSource))
+            return null;
+
+        try {
+            return ((KeyFilteredConfigurationSource) source).getKeyFilter();
+        } catch (Exception e) {
+            LOGGER.error("error occurred when getting key filter, ignore the filter. source: " + source, e);
+            return null;
+        }
+    }
+
+    private boolean mightContain(ConfigurationSource source, KeyFilter keyFilter, Object key) {
+        if (keyFilter == null)
+            return true;
+
+        try {
+            if (keyFilter.mightContain(key))
+                return true;
+        } catch (Exception e) {
+            String message = String.format(
+                "error occurred when checking key filter, ignore the filter. source: %s, key: %s", source, key);
+            LOGGER.error(message, e);
+            return true;
+        }
+
+        _sourceSkips.increment();
+        if (_metrics != null)
+            _metrics.recordSourceSkip(_sourcePriorities.get(source));
+        return false;
+    }
+
+    /**
+     * count of the source lookups skipped since the manager created, as their key filters denied the keys,
+     * per source by {@link ConfigurationMetrics#recordSourceSkip(int)}
+     * @see KeyFilteredConfigurationSource
+     */
+    public long getSourceSkipCount() {
+        return _sourceSkips.sum();
+    }
+
     protected <K, V> V getPropertyValue(ConfigurationSource source, PropertyConfig<K, V> propertyConfig) {
         V value = null;
         try {
@@ -125,6 +631,8 @@ public class DefaultConfigurationManager implements ConfigurationManager {
                 "error occurred when getting property value, ignore the source. source: %s, propertyConfig: %s", source,
                 propertyConfig);
             LOGGER.error(message, e);
+            if (_metrics != null)
+                _metrics.recordSourceFailure(_sourcePriorities.get(source));
         }
 
         return value;
@@ -140,10 +648,12 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         try {
             V oldValue = value;
             value = propertyConfig.getValueFilter().apply(oldValue);
-            if (value == null)
+            if (value == null) {
                 LOGGER.error("property value in source {} ignored by property filter, probably not valid, "
-                    + "value: {}, property: {}", source, value, propertyConfig);
-            else if (!value.equals(oldValue)) {
+                    + "value: {}, property: {}", source, oldValue, propertyConfig);
+                if (_metrics != null)
+                    _metrics.recordFilterRejection(_sourcePriorities.get(source));
+            } else if (!value.equals(oldValue)) {
                 LOGGER.warn("property value in config source {} changed by property filter, "
                     + "from: {}, to: {}, property: {}", source, oldValue, value, propertyConfig);
             }
@@ -152,11 +662,28 @@ public class DefaultConfigurationManager implements ConfigurationManager {
                 "failed to run valueFilter, ignore the filter. value: %s, valueFilter: %s, propertyConfig: %s", value,
                 propertyConfig.getValueFilter(), propertyConfig);
             LOGGER.error(message, e);
+            if (_metrics != null)
+                _metrics.recordFilterFailure(_sourcePriorities.get(source));
         }
 
         return value;
     }
 
+    private void recordSourceResult(ConfigurationSource source, Object value) {
+        if (_metrics == null)
+            return;
+
+        if (value == null)
+            _metrics.recordSourceMiss(_sourcePriorities.get(source));
+        else
+            _metrics.recordSourceHit(_sourcePriorities.get(source));
+    }
+
+    private void recordLookup(long start) {
+        if (_metrics != null)
+            _metrics.recordLookup(System.nanoTime() - start);
+    }
+
     protected <K, V> void checkRequired(PropertyConfig<K, V> config, V value) {
         if (config.isRequired() && value == null)
             throw new IllegalStateException(
@@ -165,63 +692,398 @@ public class DefaultConfigurationManager implements ConfigurationManager {
 
     protected <K, V> DefaultProperty<K, V> newProperty(PropertyConfig<K, V> config, V value,
         ConfigurationSource source) {
+        Class<V> valueType = config.getValueType();
+        if (valueType == Integer.class)
+            return (DefaultProperty<K, V>) new DefaultIntProperty<K>((PropertyConfig<K, Integer>) config,
+                (Integer) value, source);
+        if (valueType == Long.class)
+            return (DefaultProperty<K, V>) new DefaultLongProperty<K>((PropertyConfig<K, Long>) config,
+                (Long) value, source);
+        if (valueType == Double.class)
+            return (DefaultProperty<K, V>) new DefaultDoubleProperty<K>((PropertyConfig<K, Double>) config,
+                (Double) value, source);
+        if (valueType == Boolean.class)
+            return (DefaultProperty<K, V>) new DefaultBooleanProperty<K>((PropertyConfig<K, Boolean>) config,
+                (Boolean) value, source);
+
         return new DefaultProperty<K, V>(config, value, source);
     }
 
     protected void onSourceChange(ConfigurationSourceChangeEvent sourceEvent) {
+        // a source not supporting the listener removal still notifies a closed manager
+        if (_closed)
+            return;
+
+        // the cached values are read from the sources directly, invalidate them at once in any mode
+        if (_valueCache != null)
+            invalidateValueCache(sourceEvent);
+
+        if (!isAsyncReconciliation()) {
+            applySourceChanges(
+                Collections.singletonMap(sourceEvent.getSource(), sourceEvent.getChangedKeys()));
+            return;
+        }
+
+        synchronized (_pendingSourceChanges) {
+            // checked again and scheduled under the lock, so that a change queued is always scheduled
+            // before the reconciler is shut down by close
+            if (_closed)
+                return;
+
+            _submittedSourceChanges++;
+            boolean scheduled = !_pendingSourceChanges.isEmpty();
+            ConfigurationSource source = sourceEvent.getSource();
+            if (sourceEvent.isFullReload())
+                _pendingSourceChanges.put(source, null);
+            else if (!_pendingSourceChanges.containsKey(source))
+                _pendingSourceChanges.put(source, new HashSet<>(sourceEvent.getChangedKeys()));
+            else if (_pendingSourceChanges.get(source) != null)
+                _pendingSourceChanges.get(source).addAll(sourceEvent.getChangedKeys());
+
+            if (!scheduled)
+                getReconciler().schedule(this::applyPendingSourceChanges,
+                    _config.getSourceChangeCoalescingWindow(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * the values resolved from a higher priority source are not affected
+     */
+    protected void invalidateValueCache(ConfigurationSourceChangeEvent sourceEvent) {
+        Integer priority = _sourcePriorities.get(sourceEvent.getSource());
+        int changedPriority = priority == null ? Integer.MAX_VALUE : priority;
+        Predicate<ValueCache.Entry> affected = e -> e.getSource() == null
+            || _sourcePriorities.get(e.getSource()) <= changedPriority;
+        if (sourceEvent.isFullReload())
+            _valueCache.invalidate(affected);
+        else
+            _valueCache.invalidate(sourceEvent.getChangedKeys(), affected);
+    }
+
+    protected boolean isAsyncReconciliation() {
+        return _config.isAsyncReconciliation() || _config.getSourceChangeCoalescingWindow() > 0;
+    }
+
+    protected void applyPendingSourceChanges() {
+        long sequence;
+        Map<ConfigurationSource, Set<Object>> sourceChanges;
+        synchronized (_pendingSourceChanges) {
+            sequence = _submittedSourceChanges;
+            sourceChanges = new HashMap<>(_pendingSourceChanges);
+            _pendingSourceChanges.clear();
+        }
+
+        try {
+            applySourceChanges(sourceChanges);
+        } catch (Exception e) {
+            LOGGER.error("failed to apply source changes: " + sourceChanges, e);
+        } finally {
+            synchronized (_pendingSourceChanges) {
+                _appliedSourceChanges = sequence;
+                _pendingSourceChanges.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public boolean awaitSourceChanges(long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(unit, "unit is null");
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (_pendingSourceChanges) {
+            long sequence = _submittedSourceChanges;
+            while (_appliedSourceChanges < sequence) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                    return false;
+                TimeUnit.NANOSECONDS.timedWait(_pendingSourceChanges, remaining);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * update the properties affected by the source changes in one pass
+     * <p>
+     * key for the changed source, value for the changed keys, null value for a full reload
+     * <p>
+     * in the reconciler thread, the new values are resolved out of the properties lock,
+     * so that new property creation is not blocked. it's safe because the reconciler is
+     * the only one updating the existing properties, and a property created after the affected
+     * properties are collected, is resolved after the source changed
+     */
+    protected void applySourceChanges(Map<ConfigurationSource, Set<Object>> sourceChanges) {
+        long start = _metrics == null ? 0 : System.nanoTime();
+        Collection<DefaultProperty> properties;
+        if (!isAsyncReconciliation()) {
+            synchronized (_propertiesLock) {
+                properties = getAffectedProperties(sourceChanges);
+                raiseChangeEvents(updateProperties(properties, resolveProperties(properties)));
+            }
+            recordRecompute(properties.size(), start);
+            return;
+        }
+
         synchronized (_propertiesLock) {
-            _properties.values().forEach(p -> {
-                Object oldValue = p.getValue();
-                Tuple<Object, ConfigurationSource> valueSource = doGetPropertyValue(p.getConfig());
-                if (p.getConfig().isStatic()) {
-                    LOGGER.warn("ignore dynamic change for static property, "
-                        + "dynamic change for static property will be applied when app restart, "
-                        + "static: {}, dynamic: {}, property: {}",
-                        oldValue, valueSource.getV(), p.getConfig().getKey());
+            properties = getAffectedProperties(sourceChanges);
+        }
 
-                    return;
+        Map<PropertyConfig, Tuple<Object, ConfigurationSource>> valueSources = resolveProperties(properties);
+
+        List<PropertyChangeEvent> events;
+        synchronized (_propertiesLock) {
+            events = updateProperties(properties, valueSources);
+        }
+
+        raiseChangeEvents(events);
+        recordRecompute(properties.size(), start);
+    }
+
+    private void recordRecompute(int propertyCount, long start) {
+        if (_metrics != null)
+            _metrics.recordRecompute(propertyCount, System.nanoTime() - start);
+    }
+
+    /**
+     * invoked in the properties lock
+     */
+    protected Collection<DefaultProperty> getAffectedProperties(
+        Map<ConfigurationSource, Set<Object>> sourceChanges) {
+        expungeCollectedProperties();
+
+        Set<DefaultProperty> properties = new LinkedHashSet<>();
+        Consumer<Object> collector = key -> {
+            DefaultProperty p = getRegisteredProperty(key);
+            if (p != null)
+                properties.add(p);
+        };
+        sourceChanges.forEach((source, changedKeys) -> {
+            Integer priority = _sourcePriorities.get(source);
+            if (priority == null)
+                priority = Integer.MAX_VALUE;
+
+            if (changedKeys == null) {
+                // properties resolved from a higher priority source are not affected
+                for (Map.Entry<ConfigurationSource, Integer> entry : _sourcePriorities.entrySet()) {
+                    if (entry.getValue() <= priority)
+                        _sourceProperties.get(entry.getKey()).forEach(collector);
                 }
- 
-                if (valueSource.getV() == null && p.getConfig().isRequired()) {
-                    LOGGER.error("ignore dynamic change for required property, "
-                        + "required property cannot be changed to None, "
-                        + "now keep its current value, you should fix the invalid change at once, "
-                        + "or app will panic when next app restart, property: {}", p.getConfig().getKey());
+                _sourceProperties.get(null).forEach(collector);
+                return;
+            }
 
-                    return;
+            for (Object key : changedKeys) {
+                DefaultProperty p = getRegisteredProperty(key);
+                if (p != null && isAffected(p, priority))
+                    properties.add(p);
+            }
+        });
+
+        return properties;
+    }
+
+    protected Map<PropertyConfig, Tuple<Object, ConfigurationSource>> resolveProperties(
+        Collection<DefaultProperty> properties) {
+        List<PropertyConfig> configs = new ArrayList<>(properties.size());
+        properties.forEach(p -> configs.add(p.getConfig()));
+        return doGetPropertyValues(configs);
+    }
+
+    protected ScheduledExecutorService getReconciler() {
+        if (_reconciler == null) {
+            synchronized (_pendingSourceChanges) {
+                if (_closed)
+                    throw new IllegalStateException("the manager is closed: " + _config.getName());
+
+                if (_reconciler == null) {
+                    ThreadFactory threadFactory = _config.isVirtualThreadsEnabled()
+                        ? VirtualThreads.newThreadFactory("scf-reconciler-" + _config.getName() + "-")
+                        : r -> {
+                            Thread thread = new Thread(r, "scf-reconciler-" + _config.getName());
+                            thread.setDaemon(true);
+                            return thread;
+                        };
+                    _reconciler = Executors.newSingleThreadScheduledExecutor(threadFactory);
                 }
+            }
+        }
 
-                if (p.getConfig().getValueComparator().compare(oldValue, valueSource.getV()) == 0)
-                    return;
-                p.update(valueSource.getV(), valueSource.getV2());
+        return _reconciler;
+    }
 
-                PropertyChangeEvent event = new DefaultPropertyChangeEvent<>(p, oldValue, valueSource.getV());
-                _config.getTaskExecutor().accept(() -> p.raiseChangeEvent(event));
-                _config.getTaskExecutor().accept(() -> raiseChangeEvent(event));
-            });
+    /**
+     * update the properties with the resolved values, publish the new snapshot
+     * <p>
+     * invoked in the properties lock, the change events returned
+     */
+    protected List<PropertyChangeEvent> updateProperties(Collection<DefaultProperty> properties,
+        Map<PropertyConfig, Tuple<Object, ConfigurationSource>> valueSources) {
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        for (DefaultProperty p : properties) {
+            // removed after collected
+            if (getRegisteredProperty(p.getConfig().getKey()) != p)
+                continue;
+
+            PropertyChangeEvent event = updateProperty(p, valueSources.get(p.getConfig()));
+            if (event != null)
+                events.add(event);
         }
+
+        if (events.isEmpty())
+            return events;
+
+        List<DefaultProperty> changed = new ArrayList<>();
+        events.forEach(e -> changed.add((DefaultProperty) e.getProperty()));
+        publishSnapshot(changed);
+
+        return events;
     }
 
-    @Override
-    public synchronized void addChangeListener(Consumer<PropertyChangeEvent> changeListener) {
-        Objects.requireNonNull("changeListener", "changeListener is null");
+    protected void raiseChangeEvents(List<PropertyChangeEvent> events) {
+        Consumer<Runnable> taskExecutor = _config.getTaskExecutor();
+        events.forEach(event -> {
+            DefaultProperty p = (DefaultProperty) event.getProperty();
+            Runnable propertyTask = timeDispatch(() -> p.raiseChangeEvent(event));
+            Runnable managerTask = timeDispatch(() -> raiseChangeEvent(event));
+            if (taskExecutor instanceof StripedTaskExecutor) {
+                // same lane for the same key, so that the events of a property are delivered in order
+                Object key = p.getConfig().getKey();
+                ((StripedTaskExecutor) taskExecutor).accept(key, propertyTask);
+                ((StripedTaskExecutor) taskExecutor).accept(key, managerTask);
+                return;
+            }
+
+            taskExecutor.accept(propertyTask);
+            taskExecutor.accept(managerTask);
+        });
+    }
+
+    private Runnable timeDispatch(Runnable task) {
+        if (_metrics == null)
+            return task;
+
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                _metrics.recordDispatch(System.nanoTime() - start);
+            }
+        };
+    }
+
+    protected boolean isAffected(DefaultProperty property, int changedPriority) {
+        ConfigurationSource source = _propertySources.get(property.getConfig().getKey());
+        return source == null || _sourcePriorities.get(source) <= changedPriority;
+    }
+
+    private void indexPropertySource(DefaultProperty property, ConfigurationSource source) {
+        Object key = property.getConfig().getKey();
+        if (_propertySources.containsKey(key)) {
+            ConfigurationSource oldSource = _propertySources.get(key);
+            if (oldSource == source)
+                return;
+
+            _sourceProperties.get(oldSource).remove(key);
+        }
+
+        _propertySources.put(key, source);
+        _sourceProperties.get(source).add(key);
+    }
+
+    /**
+     * null returned if the property not changed
+     */
+    protected PropertyChangeEvent updateProperty(DefaultProperty p, Tuple<Object, ConfigurationSource> valueSource) {
+        Object oldValue = p.getValue();
+        if (p.getConfig().isStatic()) {
+            LOGGER.warn("ignore dynamic change for static property, "
+                + "dynamic change for static property will be applied when app restart, "
+                + "static: {}, dynamic: {}, property: {}",
+                oldValue, valueSource.getV(), p.getConfig().getKey());
 
-        if (_changeListeners == null)
-            _changeListeners = new ArrayList<>();
+            return null;
+        }
+
+        if (valueSource.getV() == null && p.getConfig().isRequired()) {
+            LOGGER.error("ignore dynamic change for required property, "
+                + "required property cannot be changed to None, "
+                + "now keep its current value, you should fix the invalid change at once, "
+                + "or app will panic when next app restart, property: {}", p.getConfig().getKey());
+
+            // nothing resolved, any source change may affect it
+            indexPropertySource(p, null);
+            return null;
+        }
+
+        indexPropertySource(p, valueSource.getV2());
+        if (p.getConfig().getValueComparator().compare(oldValue, valueSource.getV()) == 0)
+            return null;
+        p.update(valueSource.getV(), valueSource.getV2());
+
+        return new DefaultPropertyChangeEvent<>(p, oldValue, valueSource.getV());
+    }
+
+    @Override
+    public void addChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
         _changeListeners.add(changeListener);
     }
 
-    protected synchronized void raiseChangeEvent(PropertyChangeEvent event) {
-        if (_changeListeners == null)
-            return;
+    @Override
+    public void addWeakChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        _changeListeners.addWeak(changeListener);
+    }
 
-        _changeListeners.forEach(l -> {
+    @Override
+    public boolean removeChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        return _changeListeners.remove(changeListener);
+    }
+
+    protected void raiseChangeEvent(PropertyChangeEvent event) {
+        Consumer<Consumer<PropertyChangeEvent>> notifier = l -> {
             try {
                 l.accept(event);
             } catch (Exception e) {
                 LOGGER.error("property change listener failed to run", e);
             }
-        });
+        };
+        _changeListeners.forEach(notifier);
+
+        Object key = event.getProperty().getConfig().getKey();
+        if (_hasSubtreeListeners && key instanceof String)
+            _subtreeListeners.forEachAncestor((String) key, listeners -> listeners.forEach(notifier));
+    }
+
+    /**
+     * the source changes scheduled before are still applied, then the reconciler thread exits
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService reconciler;
+        synchronized (_pendingSourceChanges) {
+            if (_closed)
+                return;
+
+            _closed = true;
+            reconciler = _reconciler;
+        }
+
+        for (ConfigurationSource source : _sourcePriorities.keySet()) {
+            try {
+                source.removeChangeListener(_sourceChangeListener);
+            } catch (UnsupportedOperationException e) {
+                LOGGER.info("source change listener not removable, ignored when closed. source: {}", source);
+            }
+        }
+
+        if (reconciler != null)
+            reconciler.shutdown();
+
+        LOGGER.info("Configuration Manager closed: {}", _config.getName());
     }
 
     @Override
@@ -230,6 +1092,21 @@ public class DefaultConfigurationManager implements ConfigurationManager {
             _config, _properties, _changeListeners);
     }
 
+    protected static class PropertyReference extends WeakReference<DefaultProperty> {
+
+        private Object _key;
+
+        public PropertyReference(DefaultProperty property, ReferenceQueue<DefaultProperty> queue) {
+            super(property, queue);
+            _key = property.getConfig().getKey();
+        }
+
+        public Object getKey() {
+            return _key;
+        }
+
+    }
+
     protected static class Tuple<V, V2> {
         private V v;
         private V2 v2;
@@ -5,6 +5,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.mydotey.scf.metrics.ConfigurationMetrics;
+import org.mydotey.scf.threading.StripedTaskExecutor;
+import org.mydotey.scf.threading.VirtualThreads;
+
 /**
  * @author koqizhao
  *
@@ -15,6 +19,12 @@ public class DefaultConfigurationManagerConfig implements ConfigurationManagerCo
     private String _name;
     private Map<Integer, ConfigurationSource> _sources;
     private Consumer<Runnable> _taskExecutor;
+    private long _sourceChangeCoalescingWindow;
+    private boolean _asyncReconciliation;
+    private boolean _virtualThreadsEnabled;
+    private ConfigurationMetrics _metrics;
+    private int _valueCacheSize;
+    private boolean _weakPropertyRegistry;
 
     protected DefaultConfigurationManagerConfig() {
 
@@ -35,6 +45,36 @@ public class DefaultConfigurationManagerConfig implements ConfigurationManagerCo
         return _taskExecutor;
     }
 
+    @Override
+    public long getSourceChangeCoalescingWindow() {
+        return _sourceChangeCoalescingWindow;
+    }
+
+    @Override
+    public boolean isAsyncReconciliation() {
+        return _asyncReconciliation;
+    }
+
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+        return _virtualThreadsEnabled;
+    }
+
+    @Override
+    public ConfigurationMetrics getMetrics() {
+        return _metrics;
+    }
+
+    @Override
+    public int getValueCacheSize() {
+        return _valueCacheSize;
+    }
+
+    @Override
+    public boolean isWeakPropertyRegistry() {
+        return _weakPropertyRegistry;
+    }
+
     @Override
     public DefaultConfigurationManagerConfig clone() {
         DefaultConfigurationManagerConfig copy = null;
@@ -51,8 +91,10 @@ public class DefaultConfigurationManagerConfig implements ConfigurationManagerCo
 
     @Override
     public String toString() {
-        return String.format("%s { name: %s, taskExecutor: %s, sources: %s }", getClass().getSimpleName(), _name,
-                _taskExecutor, _sources);
+        return String.format("%s { name: %s, taskExecutor: %s, sourceChangeCoalescingWindow: %s, asyncReconciliation: %s, virtualThreadsEnabled: %s, metrics: %s, valueCacheSize: %s, weakPropertyRegistry: %s, sources: %s }",
+                getClass().getSimpleName(), _name, _taskExecutor, _sourceChangeCoalescingWindow, _asyncReconciliation,
+                _virtualThreadsEnabled, _metrics, _valueCacheSize,
+                _weakPropertyRegistry, _sources);
     }
 
     public static class Builder
@@ -67,6 +109,8 @@ public class DefaultConfigurationManagerConfig implements ConfigurationManagerCo
 
         protected static final Consumer<Runnable> DEFAULT_TASK_EXECUTOR = t -> t.run();
 
+        protected static final int VIRTUAL_THREAD_LANE_COUNT = 64;
+
         private DefaultConfigurationManagerConfig _config;
 
         protected DefaultAbstractBuilder() {
@@ -119,6 +163,42 @@ public class DefaultConfigurationManagerConfig implements ConfigurationManagerCo
             return (B) this;
         }
 
+        @Override
+        public B setSourceChangeCoalescingWindow(long milliseconds) {
+            _config._sourceChangeCoalescingWindow = milliseconds;
+            return (B) this;
+        }
+
+        @Override
+        public B setAsyncReconciliation(boolean asyncReconciliation) {
+            _config._asyncReconciliation = asyncReconciliation;
+            return (B) this;
+        }
+
+        @Override
+        public B setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+            _config._virtualThreadsEnabled = virtualThreadsEnabled;
+            return (B) this;
+        }
+
+        @Override
+        public B setMetrics(ConfigurationMetrics metrics) {
+            _config._metrics = metrics;
+            return (B) this;
+        }
+
+        @Override
+        public B setValueCacheSize(int valueCacheSize) {
+            _config._valueCacheSize = valueCacheSize;
+            return (B) this;
+        }
+
+        @Override
+        public B setWeakPropertyRegistry(boolean weakPropertyRegistry) {
+            _config._weakPropertyRegistry = weakPropertyRegistry;
+            return (B) this;
+        }
+
         @Override
         public C build() {
             if (_config._name == null || _config._name.trim().isEmpty())
@@ -128,8 +208,19 @@ public class DefaultConfigurationManagerConfig implements ConfigurationManagerCo
             if (_config._sources == null || _config._sources.isEmpty())
                 throw new IllegalArgumentException("sources is null or empty");
 
-            if (_config._taskExecutor == null)
-                _config._taskExecutor = DEFAULT_TASK_EXECUTOR;
+            if (_config._taskExecutor == null) {
+                if (_config._virtualThreadsEnabled && VirtualThreads.isSupported())
+                    _config._taskExecutor = new StripedTaskExecutor(VIRTUAL_THREAD_LANE_COUNT,
+                            VirtualThreads.newThreadPerTaskExecutor("scf-listener-" + _config._name + "-"));
+                else
+                    _config._taskExecutor = DEFAULT_TASK_EXECUTOR;
+            }
+
+            if (_config._sourceChangeCoalescingWindow < 0)
+                throw new IllegalArgumentException("sourceChangeCoalescingWindow is negative");
+
+            if (_config._valueCacheSize < 0)
+                throw new IllegalArgumentException("valueCacheSize is negative");
 
             return (C) _config.clone();
         }
@@ -0,0 +1,67 @@
+package org.mydotey.scf;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultConfigurationSnapshot implements ConfigurationSnapshot {
+
+    private long _version;
+    private PersistentHashMap<Object, Object> _values;
+
+    protected DefaultConfigurationSnapshot() {
+        this(0, PersistentHashMap.empty());
+    }
+
+    DefaultConfigurationSnapshot(long version, PersistentHashMap<Object, Object> values) {
+        _version = version;
+        _values = values;
+    }
+
+    @Override
+    public long getVersion() {
+        return _version;
+    }
+
+    @Override
+    public int size() {
+        return _values.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return _values.containsKey(key);
+    }
+
+    @Override
+    public Object getValue(Object key) {
+        return _values.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K, V> V getValue(PropertyConfig<K, V> propertyConfig) {
+        Objects.requireNonNull(propertyConfig, "propertyConfig is null");
+        return (V) _values.get(propertyConfig.getKey());
+    }
+
+    @Override
+    public void forEach(BiConsumer<Object, Object> action) {
+        Objects.requireNonNull(action, "action is null");
+        _values.forEach(action);
+    }
+
+    PersistentHashMap<Object, Object> getValues() {
+        return _values;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { version: %s, values: %s }", getClass().getSimpleName(), _version, _values);
+    }
+
+}
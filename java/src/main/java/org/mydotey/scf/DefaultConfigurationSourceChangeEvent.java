@@ -1,6 +1,10 @@
 package org.mydotey.scf;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author koqizhao
@@ -11,15 +15,30 @@ public class DefaultConfigurationSourceChangeEvent implements ConfigurationSourc
 
     private ConfigurationSource _source;
     private long _changeTime;
+    private Set<Object> _changedKeys;
 
     public DefaultConfigurationSourceChangeEvent(ConfigurationSource source) {
         this(source, System.currentTimeMillis());
     }
 
     public DefaultConfigurationSourceChangeEvent(ConfigurationSource source, long changeTime) {
+        this(source, null, changeTime);
+    }
+
+    public DefaultConfigurationSourceChangeEvent(ConfigurationSource source, Collection<?> changedKeys) {
+        this(source, changedKeys, System.currentTimeMillis());
+    }
+
+    /**
+     * null changedKeys for a full reload
+     */
+    public DefaultConfigurationSourceChangeEvent(ConfigurationSource source, Collection<?> changedKeys,
+        long changeTime) {
         Objects.requireNonNull(source, "source is null");
         _source = source;
         _changeTime = changeTime;
+        if (changedKeys != null)
+            _changedKeys = Collections.unmodifiableSet(new HashSet<>(changedKeys));
     }
 
     @Override
@@ -32,9 +51,20 @@ public class DefaultConfigurationSourceChangeEvent implements ConfigurationSourc
         return _changeTime;
     }
 
+    @Override
+    public Set<Object> getChangedKeys() {
+        return _changedKeys;
+    }
+
+    @Override
+    public boolean isFullReload() {
+        return _changedKeys == null;
+    }
+
     @Override
     public String toString() {
-        return String.format("%s { source: %s, changeTime: %s }", getClass().getSimpleName(), _source, _changeTime);
+        return String.format("%s { source: %s, changeTime: %s, changedKeys: %s }", getClass().getSimpleName(),
+            _source, _changeTime, _changedKeys);
     }
 
 }
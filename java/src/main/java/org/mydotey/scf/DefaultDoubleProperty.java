@@ -0,0 +1,29 @@
+package org.mydotey.scf;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultDoubleProperty<K> extends DefaultProperty<K, Double> implements DoubleProperty<K> {
+
+    private volatile double _doubleValue;
+
+    public DefaultDoubleProperty(PropertyConfig<K, Double> config, Double value, ConfigurationSource source) {
+        super(config, value, source);
+
+        _doubleValue = value == null ? 0.0 : value;
+    }
+
+    @Override
+    public double getDouble() {
+        return _doubleValue;
+    }
+
+    @Override
+    protected void update(Double value, ConfigurationSource source) {
+        _doubleValue = value == null ? 0.0 : value;
+        super.update(value, source);
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.mydotey.scf;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultIntProperty<K> extends DefaultProperty<K, Integer> implements IntProperty<K> {
+
+    private volatile int _intValue;
+
+    public DefaultIntProperty(PropertyConfig<K, Integer> config, Integer value, ConfigurationSource source) {
+        super(config, value, source);
+
+        _intValue = value == null ? 0 : value;
+    }
+
+    @Override
+    public int getInt() {
+        return _intValue;
+    }
+
+    @Override
+    protected void update(Integer value, ConfigurationSource source) {
+        _intValue = value == null ? 0 : value;
+        super.update(value, source);
+    }
+
+}
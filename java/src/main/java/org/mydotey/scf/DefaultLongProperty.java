@@ -0,0 +1,29 @@
+package org.mydotey.scf;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultLongProperty<K> extends DefaultProperty<K, Long> implements LongProperty<K> {
+
+    private volatile long _longValue;
+
+    public DefaultLongProperty(PropertyConfig<K, Long> config, Long value, ConfigurationSource source) {
+        super(config, value, source);
+
+        _longValue = value == null ? 0L : value;
+    }
+
+    @Override
+    public long getLong() {
+        return _longValue;
+    }
+
+    @Override
+    protected void update(Long value, ConfigurationSource source) {
+        _longValue = value == null ? 0L : value;
+        super.update(value, source);
+    }
+
+}
@@ -1,7 +1,5 @@
 package org.mydotey.scf;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -20,7 +18,10 @@ public class DefaultProperty<K, V> implements Property<K, V> {
     private PropertyConfig<K, V> _config;
     private volatile V _value;
     private volatile ConfigurationSource _source;
-    private volatile List<Consumer<PropertyChangeEvent<K, V>>> _changeListeners;
+    private ListenerRegistry<Consumer<PropertyChangeEvent<K, V>>> _changeListeners;
+
+    // notified after the listeners added or removed, null for none
+    private volatile Consumer<DefaultProperty<K, V>> _listenersObserver;
 
     public DefaultProperty(PropertyConfig<K, V> config, V value, ConfigurationSource source) {
         Objects.requireNonNull(config, "config is null");
@@ -28,6 +29,7 @@ public class DefaultProperty<K, V> implements Property<K, V> {
         _config = config;
         _value = value;
         _source = source;
+        _changeListeners = new ListenerRegistry<>();
     }
 
     @Override
@@ -51,18 +53,46 @@ public class DefaultProperty<K, V> implements Property<K, V> {
     }
 
     @Override
-    public synchronized void addChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
-        Objects.requireNonNull("changeListener", "changeListener is null");
-
-        if (_changeListeners == null)
-            _changeListeners = new ArrayList<>();
+    public void addChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
         _changeListeners.add(changeListener);
+        notifyListenersObserver();
     }
 
-    protected synchronized void raiseChangeEvent(PropertyChangeEvent<K, V> event) {
-        if (_changeListeners == null)
-            return;
+    @Override
+    public void addWeakChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        _changeListeners.addWeak(changeListener);
+        notifyListenersObserver();
+    }
+
+    @Override
+    public boolean removeChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        boolean removed = _changeListeners.remove(changeListener);
+        if (removed)
+            notifyListenersObserver();
+        return removed;
+    }
+
+    protected boolean hasChangeListeners() {
+        return !_changeListeners.isEmpty();
+    }
+
+    /**
+     * for the configuration manager to hold the property strongly while it has listeners
+     */
+    void setListenersObserver(Consumer<DefaultProperty<K, V>> listenersObserver) {
+        _listenersObserver = listenersObserver;
+    }
+
+    private void notifyListenersObserver() {
+        Consumer<DefaultProperty<K, V>> listenersObserver = _listenersObserver;
+        if (listenersObserver != null)
+            listenersObserver.accept(this);
+    }
 
+    protected void raiseChangeEvent(PropertyChangeEvent<K, V> event) {
         _changeListeners.forEach(l -> {
             try {
                 l.accept(event);
@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import org.mydotey.scf.type.TypeConverter;
+import org.mydotey.scf.type.TypeConverterTable;
 
 /**
  * @author koqizhao
@@ -29,6 +30,7 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
     private String _doc;
 
     private volatile int _hashCode;
+    private volatile TypeConverterTable<V> _valueConverterTable;
 
     protected DefaultPropertyConfig() {
 
@@ -54,6 +56,19 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
         return _valueConverters;
     }
 
+    /**
+     * dispatch table of @see {@link #getValueConverters()}, created once on first use
+     */
+    public TypeConverterTable<V> getValueConverterTable() {
+        TypeConverterTable<V> valueConverterTable = _valueConverterTable;
+        if (valueConverterTable == null) {
+            valueConverterTable = new TypeConverterTable<>(_valueType, _valueConverters);
+            _valueConverterTable = valueConverterTable;
+        }
+
+        return valueConverterTable;
+    }
+
     @Override
     public Function<V, V> getValueFilter() {
         return _valueFilter;
@@ -90,6 +105,8 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
 
         if (_valueConverters != null)
             copy._valueConverters = Collections.unmodifiableList(new ArrayList<>(_valueConverters));
+        copy._hashCode = 0;
+        copy._valueConverterTable = null;
         return copy;
     }
 
@@ -103,11 +120,21 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
 
     @Override
     public int hashCode() {
+        // a built config is immutable, compute the hash code only once
+        int hashCode = _hashCode;
+        if (hashCode == 0) {
+            hashCode = computeHashCode();
+            _hashCode = hashCode;
+        }
+
+        return hashCode;
+    }
+
+    protected int computeHashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ((_defaultValue == null) ? 0 : _defaultValue.hashCode());
         result = prime * result + ((_doc == null) ? 0 : _doc.hashCode());
-        result = prime * result + _hashCode;
         result = prime * result + ((_key == null) ? 0 : _key.hashCode());
         result = prime * result + (_required ? 1231 : 1237);
         result = prime * result + (_static ? 1231 : 1237);
@@ -127,6 +154,8 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
         if (getClass() != obj.getClass())
             return false;
         DefaultPropertyConfig other = (DefaultPropertyConfig) obj;
+        if (hashCode() != other.hashCode())
+            return false;
         if (_defaultValue == null) {
             if (other._defaultValue != null)
                 return false;
@@ -137,8 +166,6 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
                 return false;
         } else if (!_doc.equals(other._doc))
             return false;
-        if (_hashCode != other._hashCode)
-            return false;
         if (_key == null) {
             if (other._key != null)
                 return false;
@@ -182,6 +209,9 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
 
         protected static final Comparator DEFAULT_COMPARATOR = (o1, o2) -> Objects.equals(o1, o2) ? 0 : -1;
 
+        // canonical configs, equal configs built are the same instance
+        private static final WeakInterner<PropertyConfig> CANONICAL_CONFIGS = new WeakInterner<>();
+
         private DefaultPropertyConfig<K, V> _config;
 
         protected DefaultAbstractBuilder() {
@@ -271,7 +301,11 @@ public class DefaultPropertyConfig<K, V> implements PropertyConfig<K, V>, Clonea
             if (_config._valueComparator == null)
                 _config._valueComparator = DEFAULT_COMPARATOR;
 
-            return (C) _config.clone();
+            return intern((C) _config.clone());
+        }
+
+        protected C intern(C config) {
+            return (C) CANONICAL_CONFIGS.intern(config);
         }
     }
 }
@@ -0,0 +1,65 @@
+package org.mydotey.scf;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("rawtypes")
+public class DefaultPropertySubtree implements PropertySubtree {
+
+    private DefaultConfigurationManager _manager;
+    private String _prefix;
+
+    public DefaultPropertySubtree(DefaultConfigurationManager manager, String prefix) {
+        Objects.requireNonNull(manager, "manager is null");
+        Objects.requireNonNull(prefix, "prefix is null");
+
+        _manager = manager;
+        _prefix = prefix;
+    }
+
+    @Override
+    public String getPrefix() {
+        return _prefix;
+    }
+
+    @Override
+    public Map<String, Property> getProperties() {
+        return _manager.getPropertiesByPrefix(_prefix);
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        return _manager.getKeysByPrefix(_prefix);
+    }
+
+    @Override
+    public void addChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        _manager.addSubtreeListener(_prefix, changeListener, false);
+    }
+
+    @Override
+    public void addWeakChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        _manager.addSubtreeListener(_prefix, changeListener, true);
+    }
+
+    @Override
+    public boolean removeChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        return _manager.removeSubtreeListener(_prefix, changeListener);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { prefix: %s }", getClass().getSimpleName(), _prefix);
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.mydotey.scf;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * double specialized property, reading the value doesn't unbox
+ */
+public interface DoubleProperty<K> extends Property<K, Double> {
+
+    /**
+     * same as @see {@link Property#getValue()}, but no unboxing
+     * <p>
+     * 0.0 if the value is null
+     * <p>
+     * updated right before the value, not atomically with it, during an update a concurrent reader may see
+     * the new one here and the old one in {@link Property#getValue()}, read one of them for a consistent value
+     */
+    double getDouble();
+
+}
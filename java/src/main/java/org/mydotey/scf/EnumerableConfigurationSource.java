@@ -0,0 +1,22 @@
+package org.mydotey.scf;
+
+import java.util.Set;
+
+/**
+ * source which can list its keys, for the prefix queries
+ * @see KeyTrie
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface EnumerableConfigurationSource extends ConfigurationSource {
+
+    /**
+     * the keys in the subtree of the prefix, all the keys for an empty prefix
+     * <p>
+     * non-null, the keys of type String only
+     */
+    Set<String> getKeys(String prefix);
+
+}
@@ -0,0 +1,41 @@
+package org.mydotey.scf;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * key filter with the exact key set, no false positive
+ * <p>
+ * for a small key space, or when the memory of the keys is acceptable
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class ExactKeyFilter implements KeyFilter {
+
+    private Set<Object> _keys;
+
+    public ExactKeyFilter(Collection<?> keys) {
+        Objects.requireNonNull(keys, "keys is null");
+        _keys = Collections.unmodifiableSet(new HashSet<>(keys));
+    }
+
+    @Override
+    public boolean mightContain(Object key) {
+        return _keys.contains(key);
+    }
+
+    public Set<Object> getKeys() {
+        return _keys;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { keys: %s }", getClass().getSimpleName(), _keys.size());
+    }
+
+}
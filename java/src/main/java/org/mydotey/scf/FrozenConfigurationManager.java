@@ -0,0 +1,425 @@
+package org.mydotey.scf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * an immutable manager for the configuration never changed after boot
+ * <p>
+ * the properties created in the manager frozen from are copied with their values in one snapshot of it,
+ * {@link ConfigurationManager#snapshot()}, and indexed by a minimal perfect hash index, {@link PerfectHashIndex}.
+ * reading a property is a lookup in the index, no lock.
+ * the keys of the manager frozen from are copied too, for the prefix queries
+ * <p>
+ * the frozen manager keeps no reference to the manager frozen from, and never reads the sources
+ * <p>
+ * the frozen properties never change, the change listeners are not added
+ * <p>
+ * no property can be created or removed, {@link #getProperty(PropertyConfig)} and
+ * {@link #getPropertyValue(PropertyConfig)} of a key not frozen throw
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class FrozenConfigurationManager implements ConfigurationManager {
+
+    private ConfigurationManagerConfig _config;
+
+    private PerfectHashIndex<FrozenProperty> _properties;
+    private List<Property> _propertyList;
+    private KeyTrie<Property> _propertyTrie;
+    private KeyTrie<String> _keyTrie;
+    private ConfigurationSnapshot _snapshot;
+
+    public FrozenConfigurationManager(ConfigurationManager manager) {
+        Objects.requireNonNull(manager, "manager is null");
+
+        _config = manager.getConfig();
+
+        Map<Object, FrozenProperty> properties = new HashMap<>();
+        _propertyTrie = new KeyTrie<>();
+        _keyTrie = new KeyTrie<>();
+        // the values from one snapshot, so that they are consistent,
+        // the properties created after the snapshot are not frozen
+        ConfigurationSnapshot snapshot = manager.snapshot();
+        PersistentHashMap<Object, Object> values = PersistentHashMap.empty();
+        for (Property p : manager.getProperties()) {
+            Object key = p.getConfig().getKey();
+            if (!snapshot.containsKey(key))
+                continue;
+
+            FrozenProperty property = newProperty(p.getConfig(), snapshot.getValue(key), p.getSource());
+            properties.put(key, property);
+            if (key instanceof String)
+                _propertyTrie.put((String) key, property);
+            values = values.put(key, property.getValue());
+        }
+        manager.getKeysByPrefix("").forEach(k -> _keyTrie.put(k, k));
+
+        _properties = new PerfectHashIndex<>(properties);
+        _propertyList = Collections.unmodifiableList(new ArrayList<>(properties.values()));
+        _snapshot = new DefaultConfigurationSnapshot(1, values);
+    }
+
+    protected <K, V> FrozenProperty<K, V> newProperty(PropertyConfig<K, V> config, V value,
+        ConfigurationSource source) {
+        Class<V> valueType = config.getValueType();
+        if (valueType == Integer.class)
+            return (FrozenProperty<K, V>) new FrozenIntProperty<K>((PropertyConfig<K, Integer>) config,
+                (Integer) value, source);
+        if (valueType == Long.class)
+            return (FrozenProperty<K, V>) new FrozenLongProperty<K>((PropertyConfig<K, Long>) config,
+                (Long) value, source);
+        if (valueType == Double.class)
+            return (FrozenProperty<K, V>) new FrozenDoubleProperty<K>((PropertyConfig<K, Double>) config,
+                (Double) value, source);
+        if (valueType == Boolean.class)
+            return (FrozenProperty<K, V>) new FrozenBooleanProperty<K>((PropertyConfig<K, Boolean>) config,
+                (Boolean) value, source);
+
+        return new FrozenProperty<K, V>(config, value, source);
+    }
+
+    @Override
+    public ConfigurationManagerConfig getConfig() {
+        return _config;
+    }
+
+    @Override
+    public Collection<Property> getProperties() {
+        return _propertyList;
+    }
+
+    @Override
+    public <K, V> Property<K, V> getProperty(PropertyConfig<K, V> propertyConfig) {
+        Objects.requireNonNull(propertyConfig, "propertyConfig is null");
+
+        FrozenProperty<K, V> property = _properties.get(propertyConfig.getKey());
+        if (property == null)
+            throw new IllegalStateException(
+                String.format("the manager is frozen, no property created before frozen for config: %s",
+                    propertyConfig));
+
+        PropertyConfig<K, V> config = property.getConfig();
+        if (config != propertyConfig && !Objects.equals(config, propertyConfig))
+            throw new IllegalArgumentException(
+                String.format("make sure using same config for property: %s, previous config: %s, current Config: %s",
+                    propertyConfig.getKey(), property.getConfig(), propertyConfig));
+
+        return property;
+    }
+
+    @Override
+    public <K> IntProperty<K> getIntProperty(PropertyConfig<K, Integer> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), IntProperty.class);
+    }
+
+    @Override
+    public <K> LongProperty<K> getLongProperty(PropertyConfig<K, Long> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), LongProperty.class);
+    }
+
+    @Override
+    public <K> DoubleProperty<K> getDoubleProperty(PropertyConfig<K, Double> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), DoubleProperty.class);
+    }
+
+    @Override
+    public <K> BooleanProperty<K> getBooleanProperty(PropertyConfig<K, Boolean> propertyConfig) {
+        return toPrimitiveProperty(getProperty(propertyConfig), BooleanProperty.class);
+    }
+
+    protected <P extends Property> P toPrimitiveProperty(Property property, Class<P> propertyType) {
+        if (!propertyType.isInstance(property))
+            throw new IllegalArgumentException(
+                String.format("property is not a %s, make sure the valueType is the primitive wrapper type: %s",
+                    propertyType.getSimpleName(), property.getConfig()));
+
+        return (P) property;
+    }
+
+    /**
+     * the frozen value of the property, same as {@link #getProperty(PropertyConfig)}
+     */
+    @Override
+    public <K, V> V getPropertyValue(PropertyConfig<K, V> propertyConfig) {
+        return getProperty(propertyConfig).getValue();
+    }
+
+    @Override
+    public Map<PropertyConfig, Property> getProperties(Collection<PropertyConfig> propertyConfigs) {
+        Objects.requireNonNull(propertyConfigs, "propertyConfigs is null");
+
+        Map<PropertyConfig, Property> properties = new LinkedHashMap<>();
+        propertyConfigs.forEach(c -> properties.put(c, getProperty(c)));
+        return properties;
+    }
+
+    @Override
+    public Map<PropertyConfig, Object> getPropertyValues(Collection<PropertyConfig> propertyConfigs) {
+        Objects.requireNonNull(propertyConfigs, "propertyConfigs is null");
+
+        Map<PropertyConfig, Object> values = new LinkedHashMap<>();
+        propertyConfigs.forEach(c -> values.put(c, getPropertyValue(c)));
+        return values;
+    }
+
+    /**
+     * no property removed, the manager is frozen
+     */
+    @Override
+    public boolean removeProperty(Object key) {
+        Objects.requireNonNull(key, "key is null");
+        return false;
+    }
+
+    @Override
+    public Map<String, Property> getPropertiesByPrefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+
+        Map<String, Property> properties = new HashMap<>();
+        _propertyTrie.forEach(prefix, properties::put);
+        return properties;
+    }
+
+    @Override
+    public Set<String> getKeysByPrefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+
+        return _keyTrie.getKeys(prefix);
+    }
+
+    @Override
+    public PropertySubtree getSubtree(String prefix) {
+        return new FrozenPropertySubtree(this, prefix);
+    }
+
+    @Override
+    public ConfigurationSnapshot snapshot() {
+        return _snapshot;
+    }
+
+    /**
+     * no property change, the listener is not added
+     */
+    @Override
+    public void addChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+    }
+
+    /**
+     * no property change, the listener is not added
+     */
+    @Override
+    public void addWeakChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+    }
+
+    @Override
+    public boolean removeChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+        Objects.requireNonNull(changeListener, "changeListener is null");
+        return false;
+    }
+
+    /**
+     * no source change applied, return at once
+     */
+    @Override
+    public boolean awaitSourceChanges(long timeout, TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { config: %s, properties: %s }", getClass().getSimpleName(), getConfig(),
+            _properties);
+    }
+
+    /**
+     * never changed, the change listeners are not added
+     */
+    protected static class FrozenProperty<K, V> implements Property<K, V> {
+
+        private PropertyConfig<K, V> _config;
+        private V _value;
+        private ConfigurationSource _source;
+
+        public FrozenProperty(PropertyConfig<K, V> config, V value, ConfigurationSource source) {
+            Objects.requireNonNull(config, "config is null");
+
+            _config = config;
+            _value = value;
+            _source = source;
+        }
+
+        @Override
+        public PropertyConfig<K, V> getConfig() {
+            return _config;
+        }
+
+        @Override
+        public V getValue() {
+            return _value;
+        }
+
+        @Override
+        public ConfigurationSource getSource() {
+            return _source;
+        }
+
+        @Override
+        public void addChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+            Objects.requireNonNull(changeListener, "changeListener is null");
+        }
+
+        @Override
+        public void addWeakChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+            Objects.requireNonNull(changeListener, "changeListener is null");
+        }
+
+        @Override
+        public boolean removeChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+            Objects.requireNonNull(changeListener, "changeListener is null");
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s { config: %s, value: %s, source: %s }", getClass().getSimpleName(), _config,
+                _value, _source == null ? null : _source.getConfig().getName());
+        }
+
+    }
+
+    protected static class FrozenIntProperty<K> extends FrozenProperty<K, Integer> implements IntProperty<K> {
+
+        private int _intValue;
+
+        public FrozenIntProperty(PropertyConfig<K, Integer> config, Integer value, ConfigurationSource source) {
+            super(config, value, source);
+
+            _intValue = value == null ? 0 : value;
+        }
+
+        @Override
+        public int getInt() {
+            return _intValue;
+        }
+
+    }
+
+    protected static class FrozenLongProperty<K> extends FrozenProperty<K, Long> implements LongProperty<K> {
+
+        private long _longValue;
+
+        public FrozenLongProperty(PropertyConfig<K, Long> config, Long value, ConfigurationSource source) {
+            super(config, value, source);
+
+            _longValue = value == null ? 0 : value;
+        }
+
+        @Override
+        public long getLong() {
+            return _longValue;
+        }
+
+    }
+
+    protected static class FrozenDoubleProperty<K> extends FrozenProperty<K, Double> implements DoubleProperty<K> {
+
+        private double _doubleValue;
+
+        public FrozenDoubleProperty(PropertyConfig<K, Double> config, Double value, ConfigurationSource source) {
+            super(config, value, source);
+
+            _doubleValue = value == null ? 0 : value;
+        }
+
+        @Override
+        public double getDouble() {
+            return _doubleValue;
+        }
+
+    }
+
+    protected static class FrozenBooleanProperty<K> extends FrozenProperty<K, Boolean>
+            implements BooleanProperty<K> {
+
+        private boolean _booleanValue;
+
+        public FrozenBooleanProperty(PropertyConfig<K, Boolean> config, Boolean value, ConfigurationSource source) {
+            super(config, value, source);
+
+            _booleanValue = value == null ? false : value;
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return _booleanValue;
+        }
+
+    }
+
+    protected static class FrozenPropertySubtree implements PropertySubtree {
+
+        private FrozenConfigurationManager _manager;
+        private String _prefix;
+
+        public FrozenPropertySubtree(FrozenConfigurationManager manager, String prefix) {
+            Objects.requireNonNull(manager, "manager is null");
+            Objects.requireNonNull(prefix, "prefix is null");
+
+            _manager = manager;
+            _prefix = prefix;
+        }
+
+        @Override
+        public String getPrefix() {
+            return _prefix;
+        }
+
+        @Override
+        public Map<String, Property> getProperties() {
+            return _manager.getPropertiesByPrefix(_prefix);
+        }
+
+        @Override
+        public Set<String> getKeys() {
+            return _manager.getKeysByPrefix(_prefix);
+        }
+
+        @Override
+        public void addChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+            Objects.requireNonNull(changeListener, "changeListener is null");
+        }
+
+        @Override
+        public void addWeakChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+            Objects.requireNonNull(changeListener, "changeListener is null");
+        }
+
+        @Override
+        public boolean removeChangeListener(Consumer<PropertyChangeEvent> changeListener) {
+            Objects.requireNonNull(changeListener, "changeListener is null");
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s { prefix: %s }", getClass().getSimpleName(), _prefix);
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.mydotey.scf;
+
+/**
+ * summary of the keys in a source, for the configuration manager to skip the source
+ * when it cannot hold a key
+ * @see KeyFilteredConfigurationSource
+ * @see ExactKeyFilter
+ * @see BloomKeyFilter
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface KeyFilter {
+
+    /**
+     * false if the key is definitely not in the source, true if it may be
+     */
+    boolean mightContain(Object key);
+
+}
@@ -0,0 +1,24 @@
+package org.mydotey.scf;
+
+/**
+ * source which publishes a summary of its keys, so that the configuration manager skips it
+ * for the keys it cannot hold, without asking it
+ * <p>
+ * useful for a source whose lookup is expensive, a remote-backed one for example,
+ * and which holds only a part of the key space
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface KeyFilteredConfigurationSource extends ConfigurationSource {
+
+    /**
+     * the summary of the current keys, null if not available, then the source is always asked
+     * <p>
+     * when the keys change, the new filter must be published before the change event is raised,
+     * and it must not deny a key the source holds
+     */
+    KeyFilter getKeyFilter();
+
+}
@@ -0,0 +1,199 @@
+package org.mydotey.scf;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * trie of the dot-separated keys, for the prefix queries
+ * <p>
+ * the subtree of a prefix contains the prefix key itself and the keys starting with the prefix and a dot,
+ * "db.shards" contains "db.shards" and "db.shards.0.url", not "db.shardsx". the subtree of an empty prefix
+ * contains all the keys
+ * <p>
+ * thread-safe, no lock for reading, the updates are serialized
+ * <p>
+ * the nodes left empty by a removal are pruned, so that the trie does not grow with the removed keys
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class KeyTrie<V> {
+
+    private static final char SEPARATOR = '.';
+
+    private final Node<V> _root = new Node<>();
+
+    public V get(String key) {
+        Node<V> node = find(key);
+        return node == null ? null : node._value;
+    }
+
+    /**
+     * the old value returned
+     */
+    public synchronized V put(String key, V value) {
+        Objects.requireNonNull(value, "value is null");
+
+        Node<V> node = findOrCreate(key);
+        V old = node._value;
+        node._key = key;
+        node._value = value;
+        return old;
+    }
+
+    public synchronized V computeIfAbsent(String key, Function<String, V> mappingFunction) {
+        Node<V> node = findOrCreate(key);
+        if (node._value == null) {
+            V value = Objects.requireNonNull(mappingFunction.apply(key), "value is null");
+            node._key = key;
+            node._value = value;
+        }
+        return node._value;
+    }
+
+    /**
+     * the old value returned
+     */
+    public synchronized V remove(String key) {
+        Objects.requireNonNull(key, "key is null");
+
+        List<Node<V>> path = new ArrayList<>();
+        List<String> segments = new ArrayList<>();
+        Node<V> node = _root;
+        path.add(node);
+        for (int start = 0; !key.isEmpty() && start <= key.length();) {
+            int end = nextSeparator(key, start);
+            String segment = key.substring(start, end);
+            node = node._children.get(segment);
+            if (node == null)
+                return null;
+            path.add(node);
+            segments.add(segment);
+            start = end + 1;
+        }
+
+        V old = node._value;
+        node._value = null;
+
+        // prune the empty nodes from the bottom up
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<V> current = path.get(i);
+            if (current._value != null || !current._children.isEmpty())
+                break;
+            path.get(i - 1)._children.remove(segments.get(i - 1));
+        }
+
+        return old;
+    }
+
+    public boolean isEmpty() {
+        return _root._value == null && _root._children.isEmpty();
+    }
+
+    /**
+     * all the keys and values in the subtree of the prefix
+     */
+    public void forEach(String prefix, BiConsumer<String, V> action) {
+        Node<V> node = find(prefix);
+        if (node != null)
+            forEach(node, action);
+    }
+
+    public Set<String> getKeys(String prefix) {
+        Set<String> keys = new HashSet<>();
+        forEach(prefix, (k, v) -> keys.add(k));
+        return keys;
+    }
+
+    /**
+     * the values of the key and its ancestor prefixes, that is, the subtrees the key belongs to,
+     * from the root to the key
+     */
+    public void forEachAncestor(String key, Consumer<V> action) {
+        Objects.requireNonNull(key, "key is null");
+
+        Node<V> node = _root;
+        int start = 0;
+        while (true) {
+            V value = node._value;
+            if (value != null)
+                action.accept(value);
+
+            if (start > key.length())
+                return;
+
+            int end = nextSeparator(key, start);
+            node = node._children.get(key.substring(start, end));
+            if (node == null)
+                return;
+            start = end + 1;
+        }
+    }
+
+    private void forEach(Node<V> node, BiConsumer<String, V> action) {
+        V value = node._value;
+        if (value != null)
+            action.accept(node._key, value);
+
+        node._children.values().forEach(child -> forEach(child, action));
+    }
+
+    private Node<V> find(String key) {
+        Objects.requireNonNull(key, "key is null");
+
+        Node<V> node = _root;
+        if (key.isEmpty())
+            return node;
+
+        for (int start = 0; start <= key.length() && node != null;) {
+            int end = nextSeparator(key, start);
+            node = node._children.get(key.substring(start, end));
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private Node<V> findOrCreate(String key) {
+        Objects.requireNonNull(key, "key is null");
+
+        Node<V> node = _root;
+        if (key.isEmpty())
+            return node;
+
+        for (int start = 0; start <= key.length();) {
+            int end = nextSeparator(key, start);
+            node = node._children.computeIfAbsent(key.substring(start, end), k -> new Node<>());
+            start = end + 1;
+        }
+        return node;
+    }
+
+    private static int nextSeparator(String key, int start) {
+        int end = key.indexOf(SEPARATOR, start);
+        return end < 0 ? key.length() : end;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        forEach("", (k, v) -> builder.append(builder.length() == 0 ? "" : ", ").append(k).append(": ").append(v));
+        return String.format("%s { %s }", getClass().getSimpleName(), builder);
+    }
+
+    private static class Node<V> {
+
+        private final ConcurrentHashMap<String, Node<V>> _children = new ConcurrentHashMap<>();
+        private volatile String _key;
+        private volatile V _value;
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.mydotey.scf;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * copy-on-write listener list
+ * <p>
+ * the listeners are run on an immutable array, no lock is held when running them,
+ * adding or removing a listener never waits for a running dispatch
+ * <p>
+ * a weak listener is held by a weak reference, and dropped once garbage collected
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+final class ListenerRegistry<L> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final AtomicReference<Object[]> _listeners = new AtomicReference<>(EMPTY);
+
+    public void add(L listener) {
+        Objects.requireNonNull(listener, "listener is null");
+        append(listener);
+    }
+
+    public void addWeak(L listener) {
+        Objects.requireNonNull(listener, "listener is null");
+        append(new WeakListener<>(listener));
+    }
+
+    /**
+     * remove the first registration of the listener, strong or weak
+     * @return false if not found
+     */
+    public boolean remove(L listener) {
+        Objects.requireNonNull(listener, "listener is null");
+
+        while (true) {
+            Object[] current = _listeners.get();
+            List<Object> rest = new ArrayList<>(current.length);
+            boolean found = false;
+            for (Object entry : current) {
+                L l = unwrap(entry);
+                if (l == null)
+                    continue;
+
+                if (!found && Objects.equals(l, listener))
+                    found = true;
+                else
+                    rest.add(entry);
+            }
+
+            if (!found)
+                return false;
+
+            if (_listeners.compareAndSet(current, rest.toArray()))
+                return true;
+        }
+    }
+
+    public boolean isEmpty() {
+        return _listeners.get().length == 0;
+    }
+
+    public void forEach(Consumer<L> action) {
+        boolean collected = false;
+        for (Object entry : _listeners.get()) {
+            L listener = unwrap(entry);
+            if (listener == null) {
+                collected = true;
+                continue;
+            }
+
+            action.accept(listener);
+        }
+
+        if (collected)
+            expunge();
+    }
+
+    private void append(Object entry) {
+        while (true) {
+            Object[] current = _listeners.get();
+            List<Object> listeners = new ArrayList<>(current.length + 1);
+            for (Object e : current) {
+                if (unwrap(e) != null)
+                    listeners.add(e);
+            }
+            listeners.add(entry);
+
+            if (_listeners.compareAndSet(current, listeners.toArray()))
+                return;
+        }
+    }
+
+    private void expunge() {
+        while (true) {
+            Object[] current = _listeners.get();
+            List<Object> alive = new ArrayList<>(current.length);
+            for (Object entry : current) {
+                if (unwrap(entry) != null)
+                    alive.add(entry);
+            }
+
+            if (alive.size() == current.length || _listeners.compareAndSet(current, alive.toArray()))
+                return;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private L unwrap(Object entry) {
+        if (entry instanceof WeakListener)
+            return ((WeakListener<L>) entry).get();
+        return (L) entry;
+    }
+
+    @Override
+    public String toString() {
+        List<L> listeners = new ArrayList<>();
+        forEach(listeners::add);
+        return listeners.toString();
+    }
+
+    private static class WeakListener<L> extends WeakReference<L> {
+
+        public WeakListener(L listener) {
+            super(listener);
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package org.mydotey.scf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * immutable minimal perfect hash index, built once for a fixed key set
+ * <p>
+ * by hash and displace: the keys are grouped into buckets by hash, and for each bucket a displacement is found
+ * so that its keys are hashed to the free slots, n keys in n slots. the bucket of a single key is placed directly.
+ * <p>
+ * a lookup is 2 array reads and 1 key check, no probing. it's based on the hash codes of the keys,
+ * the keys of the same hash code with other keys go to an overflow map
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("unchecked")
+final class PerfectHashIndex<V> {
+
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    private static final int MAX_DISPLACEMENT = 1 << 24;
+
+    private final Object[] _keys;
+    private final Object[] _values;
+    // bucket -> 0 for empty, positive for the displacement, negative for the slot of a single key: -slot - 1
+    private final int[] _displacements;
+    private final Map<Object, V> _overflow;
+
+    public PerfectHashIndex(Map<?, ? extends V> entries) {
+        Map<Integer, List<Object>> hashKeys = new HashMap<>();
+        entries.keySet().forEach(k -> hashKeys.computeIfAbsent(k.hashCode(), h -> new ArrayList<>(1)).add(k));
+
+        List<Object> keys = new ArrayList<>();
+        Map<Object, V> overflow = new HashMap<>();
+        hashKeys.values().forEach(ks -> {
+            if (ks.size() == 1)
+                keys.add(ks.get(0));
+            else
+                ks.forEach(k -> overflow.put(k, entries.get(k)));
+        });
+
+        int size = keys.size();
+        _keys = new Object[size];
+        _values = new Object[size];
+        _displacements = new int[Math.max(1, size / 2)];
+        _overflow = overflow.isEmpty() ? null : overflow;
+
+        @SuppressWarnings("rawtypes")
+        List<Object>[] buckets = new List[_displacements.length];
+        for (Object key : keys) {
+            int bucket = reduce(mix(key.hashCode()), buckets.length);
+            if (buckets[bucket] == null)
+                buckets[bucket] = new ArrayList<>(2);
+            buckets[bucket].add(key);
+        }
+
+        // the larger buckets first, while there are more free slots
+        Integer[] order = new Integer[buckets.length];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt((Integer b) -> buckets[b] == null ? 0 : buckets[b].size())
+            .reversed());
+
+        int[] slots = new int[0];
+        int freeSlot = 0;
+        for (int bucket : order) {
+            List<Object> bucketKeys = buckets[bucket];
+            if (bucketKeys == null)
+                break;
+
+            if (bucketKeys.size() == 1) {
+                while (_keys[freeSlot] != null)
+                    freeSlot++;
+                _displacements[bucket] = -freeSlot - 1;
+                place(freeSlot, bucketKeys.get(0), entries);
+                continue;
+            }
+
+            if (slots.length < bucketKeys.size())
+                slots = new int[bucketKeys.size()];
+            int displacement = findDisplacement(bucketKeys, slots);
+            _displacements[bucket] = displacement;
+            for (int i = 0; i < bucketKeys.size(); i++)
+                place(slots[i], bucketKeys.get(i), entries);
+        }
+    }
+
+    private int findDisplacement(List<Object> bucketKeys, int[] slots) {
+        for (int displacement = 1; displacement < MAX_DISPLACEMENT; displacement++) {
+            if (tryDisplacement(bucketKeys, displacement, slots))
+                return displacement;
+        }
+
+        throw new IllegalStateException("failed to build the perfect hash index, keys: " + bucketKeys);
+    }
+
+    private boolean tryDisplacement(List<Object> bucketKeys, int displacement, int[] slots) {
+        for (int i = 0; i < bucketKeys.size(); i++) {
+            int slot = slot(bucketKeys.get(i).hashCode(), displacement);
+            if (_keys[slot] != null)
+                return false;
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot)
+                    return false;
+            }
+            slots[i] = slot;
+        }
+
+        return true;
+    }
+
+    private void place(int slot, Object key, Map<?, ? extends V> entries) {
+        _keys[slot] = key;
+        _values[slot] = entries.get(key);
+    }
+
+    public int size() {
+        return _keys.length + (_overflow == null ? 0 : _overflow.size());
+    }
+
+    /**
+     * null if not found
+     */
+    public V get(Object key) {
+        if (_keys.length > 0) {
+            int hash = key.hashCode();
+            int displacement = _displacements[reduce(mix(hash), _displacements.length)];
+            if (displacement != 0) {
+                int slot = displacement < 0 ? -displacement - 1 : slot(hash, displacement);
+                Object k = _keys[slot];
+                if (k == key || k.equals(key))
+                    return (V) _values[slot];
+            }
+        }
+
+        return _overflow == null ? null : _overflow.get(key);
+    }
+
+    private int slot(int hash, int displacement) {
+        return reduce(mix(hash + displacement * SEED), _keys.length);
+    }
+
+    // fmix64 of murmur3
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // map the high 32 bits to [0, n) by multiplication instead of modulo
+    private static int reduce(long h, int n) {
+        return (int) (((h >>> 32) * n) >>> 32);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { size: %s, buckets: %s, overflow: %s }", getClass().getSimpleName(), size(),
+            _displacements.length, _overflow == null ? 0 : _overflow.size());
+    }
+
+}
@@ -0,0 +1,309 @@
+package org.mydotey.scf;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * immutable hash array mapped trie, put and remove return a new map sharing the unchanged nodes with the old one
+ * <p>
+ * null key is not supported, null value is supported
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+final class PersistentHashMap<K, V> {
+
+    private static final PersistentHashMap EMPTY = new PersistentHashMap<>(null, 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return EMPTY;
+    }
+
+    private final Node _root;
+    private final int _size;
+
+    private PersistentHashMap(Node root, int size) {
+        _root = root;
+        _size = size;
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    public boolean containsKey(Object key) {
+        return _root != null && _root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    public V get(Object key) {
+        if (_root == null)
+            return null;
+
+        Object value = _root.find(0, hash(key), key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    public PersistentHashMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "key is null");
+
+        boolean[] added = new boolean[1];
+        Node root = (_root == null ? BitmapNode.EMPTY : _root).put(0, hash(key), key, value, added);
+        if (root == _root)
+            return this;
+
+        return new PersistentHashMap<>(root, added[0] ? _size + 1 : _size);
+    }
+
+    public PersistentHashMap<K, V> remove(Object key) {
+        if (_root == null)
+            return this;
+
+        Node root = _root.remove(0, hash(key), key);
+        if (root == _root)
+            return this;
+
+        return new PersistentHashMap<>(root, _size - 1);
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (_root != null)
+            _root.forEach(action);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((k, v) -> {
+            if (builder.length() > 1)
+                builder.append(", ");
+            builder.append(k).append('=').append(v);
+        });
+        return builder.append('}').toString();
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private interface Node {
+
+        Object find(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * null if no entry left
+         */
+        Node remove(int shift, int hash, Object key);
+
+        void forEach(BiConsumer action);
+
+    }
+
+    /**
+     * 2 slots for each bit in the bitmap, key and value for an entry, or null and child node for a sub trie
+     */
+    private static final class BitmapNode implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int _bitmap;
+        private final Object[] _array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            _bitmap = bitmap;
+            _array = array;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((_bitmap & bit) == 0)
+                return NOT_FOUND;
+
+            int index = index(bit);
+            Object k = _array[2 * index];
+            Object v = _array[2 * index + 1];
+            if (k == null)
+                return ((Node) v).find(shift + 5, hash, key);
+            return key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(shift, hash);
+            int index = index(bit);
+            if ((_bitmap & bit) == 0) {
+                Object[] array = new Object[_array.length + 2];
+                System.arraycopy(_array, 0, array, 0, 2 * index);
+                array[2 * index] = key;
+                array[2 * index + 1] = value;
+                System.arraycopy(_array, 2 * index, array, 2 * index + 2, _array.length - 2 * index);
+                added[0] = true;
+                return new BitmapNode(_bitmap | bit, array);
+            }
+
+            Object k = _array[2 * index];
+            Object v = _array[2 * index + 1];
+            if (k == null) {
+                Node child = ((Node) v).put(shift + 5, hash, key, value, added);
+                return child == v ? this : with(2 * index + 1, null, child);
+            }
+
+            if (key.equals(k))
+                return v == value ? this : with(2 * index + 1, k, value);
+
+            added[0] = true;
+            return with(2 * index + 1, null, newNode(shift + 5, k, v, hash, key, value));
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((_bitmap & bit) == 0)
+                return this;
+
+            int index = index(bit);
+            Object k = _array[2 * index];
+            Object v = _array[2 * index + 1];
+            if (k == null) {
+                Node child = ((Node) v).remove(shift + 5, hash, key);
+                if (child == v)
+                    return this;
+                if (child != null)
+                    return with(2 * index + 1, null, child);
+            } else if (!key.equals(k))
+                return this;
+
+            if (_bitmap == bit)
+                return null;
+
+            Object[] array = new Object[_array.length - 2];
+            System.arraycopy(_array, 0, array, 0, 2 * index);
+            System.arraycopy(_array, 2 * index + 2, array, 2 * index, array.length - 2 * index);
+            return new BitmapNode(_bitmap ^ bit, array);
+        }
+
+        @Override
+        public void forEach(BiConsumer action) {
+            for (int i = 0; i < _array.length; i += 2) {
+                if (_array[i] == null)
+                    ((Node) _array[i + 1]).forEach(action);
+                else
+                    action.accept(_array[i], _array[i + 1]);
+            }
+        }
+
+        private BitmapNode with(int valueIndex, Object key, Object value) {
+            Object[] array = _array.clone();
+            array[valueIndex - 1] = key;
+            array[valueIndex] = value;
+            return new BitmapNode(_bitmap, array);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(_bitmap & (bit - 1));
+        }
+
+        private static int bit(int shift, int hash) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+
+        private static Node newNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2)
+                return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+
+            boolean[] added = new boolean[1];
+            return EMPTY.put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+        }
+
+    }
+
+    /**
+     * entries with the same hash
+     */
+    private static final class CollisionNode implements Node {
+
+        private final int _hash;
+        private final Object[] _array;
+
+        CollisionNode(int hash, Object[] array) {
+            _hash = hash;
+            _array = array;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            if (hash != _hash)
+                return NOT_FOUND;
+
+            int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : _array[index + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != _hash) {
+                Node node = new BitmapNode(BitmapNode.bit(shift, _hash), new Object[] { null, this });
+                return node.put(shift, hash, key, value, added);
+            }
+
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (_array[index + 1] == value)
+                    return this;
+
+                Object[] array = _array.clone();
+                array[index + 1] = value;
+                return new CollisionNode(_hash, array);
+            }
+
+            Object[] array = new Object[_array.length + 2];
+            System.arraycopy(_array, 0, array, 0, _array.length);
+            array[_array.length] = key;
+            array[_array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(_hash, array);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            if (hash != _hash)
+                return this;
+
+            int index = indexOf(key);
+            if (index < 0)
+                return this;
+            if (_array.length == 2)
+                return null;
+
+            Object[] array = new Object[_array.length - 2];
+            System.arraycopy(_array, 0, array, 0, index);
+            System.arraycopy(_array, index + 2, array, index, array.length - index);
+            return new CollisionNode(_hash, array);
+        }
+
+        @Override
+        public void forEach(BiConsumer action) {
+            for (int i = 0; i < _array.length; i += 2)
+                action.accept(_array[i], _array[i + 1]);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < _array.length; i += 2) {
+                if (key.equals(_array[i]))
+                    return i;
+            }
+
+            return -1;
+        }
+
+    }
+
+}
@@ -32,4 +32,24 @@ public interface Property<K, V> {
      */
     void addChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener);
 
+    /**
+     * the listener is held by a weak reference, and removed once garbage collected
+     * <p>
+     * keep a strong reference to the listener as long as it is needed
+     * <p>
+     * not supported by default
+     */
+    default void addWeakChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+        throw new UnsupportedOperationException("weak change listener not supported by: " + getClass().getName());
+    }
+
+    /**
+     * return false if the listener is not added
+     * <p>
+     * not supported by default
+     */
+    default boolean removeChangeListener(Consumer<PropertyChangeEvent<K, V>> changeListener) {
+        throw new UnsupportedOperationException("change listener removal not supported by: " + getClass().getName());
+    }
+
 }
\ No newline at end of file
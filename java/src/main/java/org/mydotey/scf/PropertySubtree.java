@@ -0,0 +1,55 @@
+package org.mydotey.scf;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * a live view of the properties under a key prefix
+ * @see KeyTrie
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("rawtypes")
+public interface PropertySubtree {
+
+    /**
+     * non-null, empty for all the properties
+     */
+    String getPrefix();
+
+    /**
+     * the properties created in the subtree, key for the property key
+     * <p>
+     * non-null, the properties created later are included in the later calls
+     */
+    Map<String, Property> getProperties();
+
+    /**
+     * the keys of the created properties and the keys of the enumerable sources in the subtree
+     * <p>
+     * non-null
+     * @see EnumerableConfigurationSource
+     */
+    Set<String> getKeys();
+
+    /**
+     * listeners to the property change in the subtree, notified once property changed
+     */
+    void addChangeListener(Consumer<PropertyChangeEvent> changeListener);
+
+    /**
+     * the listener is held by a weak reference, and removed once garbage collected
+     * <p>
+     * keep a strong reference to the listener as long as it is needed
+     */
+    void addWeakChangeListener(Consumer<PropertyChangeEvent> changeListener);
+
+    /**
+     * return false if the listener is not added
+     */
+    boolean removeChangeListener(Consumer<PropertyChangeEvent> changeListener);
+
+}
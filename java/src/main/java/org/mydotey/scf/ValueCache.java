@@ -0,0 +1,259 @@
+package org.mydotey.scf;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * bounded cache of the resolved property values, for the one-shot lookups
+ * <p>
+ * reading is one hash lookup without lock. when full, the victim is chosen by the clock algorithm,
+ * and a new key is admitted only if it's accessed more frequently than the victim, by a count-min sketch
+ * of the recent accesses, so that a burst of one-shot keys does not flush the hot ones
+ * <p>
+ * a key is cached with one property config, a lookup of another config of the same key replaces it
+ * <p>
+ * a value resolved before an invalidation is never cached after it, by the generation
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("rawtypes")
+final class ValueCache {
+
+    private final int _maximumSize;
+
+    private final ConcurrentHashMap<Object, Entry> _entries;
+    private final FrequencySketch _sketch;
+
+    // clock of the entries, guarded by this
+    private final Entry[] _clock;
+    private final int[] _freeSlots;
+    private int _freeSlotCount;
+    private int _hand;
+
+    private volatile long _generation;
+
+    public ValueCache(int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("maximumSize is not positive: " + maximumSize);
+
+        _maximumSize = maximumSize;
+        _entries = new ConcurrentHashMap<>();
+        _sketch = new FrequencySketch(maximumSize);
+        _clock = new Entry[maximumSize];
+        _freeSlots = new int[maximumSize];
+        for (int i = 0; i < maximumSize; i++)
+            _freeSlots[i] = maximumSize - 1 - i;
+        _freeSlotCount = maximumSize;
+    }
+
+    public int getMaximumSize() {
+        return _maximumSize;
+    }
+
+    public int size() {
+        return _entries.size();
+    }
+
+    /**
+     * null if not cached
+     */
+    public Entry get(PropertyConfig config) {
+        Object key = config.getKey();
+        _sketch.increment(key);
+
+        Entry entry = _entries.get(key);
+        if (entry == null)
+            return null;
+
+        PropertyConfig cached = entry._config;
+        if (cached != config && !cached.equals(config))
+            return null;
+
+        if (!entry._referenced)
+            entry._referenced = true;
+        return entry;
+    }
+
+    /**
+     * read it before resolving the value to put
+     */
+    public long getGeneration() {
+        return _generation;
+    }
+
+    /**
+     * cache the value resolved from the source, ignored if there is any invalidation since the generation,
+     * or the key is not admitted
+     */
+    public synchronized void put(PropertyConfig config, Object value, ConfigurationSource source,
+        long generation) {
+        if (generation != _generation)
+            return;
+
+        Object key = config.getKey();
+        Entry old = _entries.get(key);
+        int slot;
+        if (old != null)
+            slot = old._slot;
+        else if (_freeSlotCount > 0)
+            slot = _freeSlots[--_freeSlotCount];
+        else {
+            Entry victim = nextVictim();
+            if (_sketch.frequency(key) <= _sketch.frequency(victim._config.getKey()))
+                return;
+
+            _entries.remove(victim._config.getKey());
+            slot = victim._slot;
+        }
+
+        Entry entry = new Entry(config, value, source, slot);
+        _clock[slot] = entry;
+        _entries.put(key, entry);
+    }
+
+    /**
+     * remove the cached values of the keys which match the predicate
+     */
+    public synchronized void invalidate(Collection<?> keys, Predicate<Entry> predicate) {
+        _generation++;
+        for (Object key : keys) {
+            Entry entry = _entries.get(key);
+            if (entry != null && predicate.test(entry))
+                remove(entry);
+        }
+    }
+
+    /**
+     * remove all the cached values which match the predicate
+     */
+    public synchronized void invalidate(Predicate<Entry> predicate) {
+        _generation++;
+        for (Entry entry : _clock) {
+            if (entry != null && predicate.test(entry))
+                remove(entry);
+        }
+    }
+
+    private void remove(Entry entry) {
+        _entries.remove(entry._config.getKey());
+        _clock[entry._slot] = null;
+        _freeSlots[_freeSlotCount++] = entry._slot;
+    }
+
+    // the first entry not referenced since the hand passed it last time
+    private Entry nextVictim() {
+        while (true) {
+            Entry entry = _clock[_hand];
+            _hand = (_hand + 1) % _maximumSize;
+            if (!entry._referenced)
+                return entry;
+
+            entry._referenced = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { maximumSize: %s, size: %s }", getClass().getSimpleName(), _maximumSize, size());
+    }
+
+    static final class Entry {
+
+        private final PropertyConfig _config;
+        private final Object _value;
+        private final ConfigurationSource _source;
+        private final int _slot;
+        private volatile boolean _referenced;
+
+        private Entry(PropertyConfig config, Object value, ConfigurationSource source, int slot) {
+            _config = config;
+            _value = value;
+            _source = source;
+            _slot = slot;
+        }
+
+        public Object getValue() {
+            return _value;
+        }
+
+        /**
+         * the source the value resolved from, null for the default value
+         */
+        public ConfigurationSource getSource() {
+            return _source;
+        }
+
+    }
+
+    /**
+     * count-min sketch of 4-bit-like counters, halved periodically so that the old accesses fade
+     * <p>
+     * updated without lock, a lost update only makes the estimation a bit lower
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_COUNT = 15;
+        private static final int DEPTH = 4;
+        private static final int MIN_WIDTH = 256;
+        private static final long[] SEEDS = { 0x9e3779b97f4a7c15L, 0xc2b2ae3d27d4eb4fL, 0x165667b19e3779f9L,
+            0xd6e8feb86659fd93L };
+
+        private final int[] _counters;
+        private final int _mask;
+        private final int _sampleSize;
+        private int _additions;
+
+        private FrequencySketch(int maximumSize) {
+            // not too small, so that a small cache still tells the hot keys from a burst of cold ones
+            int width = Math.max(maximumSize, MIN_WIDTH);
+            int length = Integer.highestOneBit(Math.min(width, 1 << 24) * 4 - 1) << 1;
+            _counters = new int[length];
+            _mask = length - 1;
+            _sampleSize = 10 * width;
+        }
+
+        private void increment(Object key) {
+            int hash = Objects.hashCode(key);
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                if (_counters[index] < MAX_COUNT) {
+                    _counters[index]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++_additions >= _sampleSize)
+                reset();
+        }
+
+        private int frequency(Object key) {
+            int hash = Objects.hashCode(key);
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++)
+                frequency = Math.min(frequency, _counters[index(hash, i)]);
+            return frequency;
+        }
+
+        private int index(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[(i + 1) % DEPTH];
+            h ^= h >>> 32;
+            return (int) h & _mask;
+        }
+
+        private synchronized void reset() {
+            if (_additions < _sampleSize)
+                return;
+
+            for (int i = 0; i < _counters.length; i++)
+                _counters[i] >>>= 1;
+            _additions = 0;
+        }
+
+    }
+
+}
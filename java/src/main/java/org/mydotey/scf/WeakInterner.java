@@ -0,0 +1,111 @@
+package org.mydotey.scf;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * concurrent interner of weakly held canonical instances, equal values interned are the same instance
+ * <p>
+ * a hit is one hash lookup without lock, the collected instances are expunged by a reference queue
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+final class WeakInterner<T> {
+
+    private final ConcurrentHashMap<Object, WeakKey<T>> _entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> _collected = new ReferenceQueue<>();
+
+    /**
+     * the canonical instance equal to the value, the value itself if none
+     */
+    public T intern(T value) {
+        Objects.requireNonNull(value, "value is null");
+
+        WeakKey<T> existing = _entries.get(new LookupKey(value));
+        T canonical = existing == null ? null : existing.get();
+        if (canonical != null)
+            return canonical;
+
+        expungeCollected();
+        WeakKey<T> key = new WeakKey<>(value, _collected);
+        while (true) {
+            existing = _entries.putIfAbsent(key, key);
+            if (existing == null)
+                return value;
+
+            canonical = existing.get();
+            if (canonical != null)
+                return canonical;
+
+            // collected but not expunged yet
+            _entries.remove(existing, existing);
+        }
+    }
+
+    public int size() {
+        expungeCollected();
+        return _entries.size();
+    }
+
+    private void expungeCollected() {
+        for (Object key; (key = _collected.poll()) != null;)
+            _entries.remove(key, key);
+    }
+
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int _hashCode;
+
+        private WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            _hashCode = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+
+        // a collected key equals only itself
+        @Override
+        public boolean equals(Object other) {
+            if (other == this)
+                return true;
+            if (!(other instanceof WeakKey) || ((WeakKey<?>) other)._hashCode != _hashCode)
+                return false;
+
+            T value = get();
+            return value != null && value.equals(((WeakKey<?>) other).get());
+        }
+
+    }
+
+    private static final class LookupKey {
+
+        private final Object _value;
+
+        private LookupKey(Object value) {
+            _value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return _value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof WeakKey))
+                return false;
+
+            Object value = ((WeakKey<?>) other).get();
+            return value != null && _value.equals(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.mydotey.scf.binding;
+
+/**
+ * an object bound to the properties under a key prefix
+ * <p>
+ * the bound object is immutable, a new one is built and published atomically
+ * once any of the properties changed, so that the values read from one bound object are consistent
+ * @see ConfigurationBinder
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface Binding<T> {
+
+    /**
+     * non-null, empty for no prefix
+     */
+    String getPrefix();
+
+    /**
+     * the interface or the class bound
+     */
+    Class<T> getType();
+
+    /**
+     * the latest bound object
+     * <p>
+     * non-null
+     */
+    T get();
+
+}
@@ -0,0 +1,302 @@
+package org.mydotey.scf.binding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * writes the class file of a bound object class for an interface
+ * <p>
+ * the class implements the interface, with a constructor (Object[] values, Function toString),
+ * and a getter for each abstract getter, which reads its values element, unboxed for a primitive getter.
+ * the default methods are inherited, equals and hashCode are the identity ones of Object
+ * <p>
+ * the class only refers to the interface, the getter return types, and the java.* classes,
+ * so that it can be defined in the class loader of the interface
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+final class BoundClassWriter {
+
+    private static final int CLASS_VERSION = 52;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String FUNCTION = "java/util/function/Function";
+    private static final String VALUES_DESCRIPTOR = "[Ljava/lang/Object;";
+    private static final String TO_STRING_DESCRIPTOR = "Ljava/util/function/Function;";
+
+    private final ByteArrayOutputStream _constants = new ByteArrayOutputStream();
+    private final DataOutputStream _constantsOut = new DataOutputStream(_constants);
+    private final Map<String, Integer> _constantIndexes = new HashMap<>();
+    private int _constantCount = 1;
+
+    private BoundClassWriter() {
+
+    }
+
+    /**
+     * the getter of the i-th method reads the i-th values element
+     */
+    public static byte[] write(String className, Class<?> type, List<Method> getters) {
+        try {
+            return new BoundClassWriter().writeClass(className.replace('.', '/'), type, getters);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] writeClass(String className, Class<?> type, List<Method> getters) throws IOException {
+        int thisClass = classConstant(className);
+        int superClass = classConstant(OBJECT);
+        int interfaceClass = classConstant(internalName(type));
+        int values = fieldConstant(className, "_values", VALUES_DESCRIPTOR);
+        int toString = fieldConstant(className, "_toString", TO_STRING_DESCRIPTOR);
+
+        List<byte[]> methods = new ArrayList<>();
+        methods.add(writeConstructor(superClass, values, toString));
+        methods.add(writeToString(values, toString));
+        for (int i = 0; i < getters.size(); i++)
+            methods.add(writeGetter(getters.get(i), i, values));
+        byte[] valuesField = writeField("_values", VALUES_DESCRIPTOR);
+        byte[] toStringField = writeField("_toString", TO_STRING_DESCRIPTOR);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(CLASS_VERSION);
+        out.writeShort(_constantCount);
+        _constantsOut.flush();
+        _constants.writeTo(out);
+        out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(interfaceClass);
+
+        out.writeShort(2);
+        out.write(valuesField);
+        out.write(toStringField);
+
+        out.writeShort(methods.size());
+        for (byte[] method : methods)
+            out.write(method);
+
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private byte[] writeField(String name, String descriptor) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(ACC_PRIVATE | ACC_FINAL);
+        out.writeShort(utf8Constant(name));
+        out.writeShort(utf8Constant(descriptor));
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    // super(); _values = values; _toString = toString;
+    private byte[] writeConstructor(int superClass, int values, int toString) throws IOException {
+        int superConstructor = memberConstant(10, OBJECT, "<init>", "()V");
+        Code code = new Code();
+        code.op(0x2A).op(0xB7).u2(superConstructor);
+        code.op(0x2A).op(0x2B).op(0xB5).u2(values);
+        code.op(0x2A).op(0x2C).op(0xB5).u2(toString);
+        code.op(0xB1);
+        return writeMethod("<init>", "(" + VALUES_DESCRIPTOR + TO_STRING_DESCRIPTOR + ")V", code, 2, 3);
+    }
+
+    // return (String) _toString.apply(_values);
+    private byte[] writeToString(int values, int toString) throws IOException {
+        int apply = memberConstant(11, FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;");
+        Code code = new Code();
+        code.op(0x2A).op(0xB4).u2(toString);
+        code.op(0x2A).op(0xB4).u2(values);
+        code.op(0xB9).u2(apply).op(2).op(0);
+        code.op(0xC0).u2(classConstant("java/lang/String"));
+        code.op(0xB0);
+        return writeMethod("toString", "()Ljava/lang/String;", code, 2, 1);
+    }
+
+    // return (R) _values[index]; or ((Box) _values[index]).rValue(); for a primitive R
+    private byte[] writeGetter(Method getter, int index, int values) throws IOException {
+        Class<?> returnType = getter.getReturnType();
+        Code code = new Code();
+        code.op(0x2A).op(0xB4).u2(values);
+        if (index <= 5)
+            code.op(0x03 + index);
+        else if (index <= Byte.MAX_VALUE)
+            code.op(0x10).op(index);
+        else
+            code.op(0x11).u2(index);
+        code.op(0x32);
+
+        if (returnType.isPrimitive()) {
+            String box = internalName(DefaultBinding.box(returnType));
+            String descriptor = descriptor(returnType);
+            code.op(0xC0).u2(classConstant(box));
+            code.op(0xB6).u2(memberConstant(10, box, returnType.getName() + "Value", "()" + descriptor));
+            switch (descriptor) {
+                case "J":
+                    code.op(0xAD);
+                    break;
+                case "F":
+                    code.op(0xAE);
+                    break;
+                case "D":
+                    code.op(0xAF);
+                    break;
+                default:
+                    code.op(0xAC);
+                    break;
+            }
+        } else {
+            if (returnType != Object.class)
+                code.op(0xC0).u2(classConstant(internalName(returnType)));
+            code.op(0xB0);
+        }
+
+        return writeMethod(getter.getName(), "()" + descriptor(returnType), code, 2, 1);
+    }
+
+    private byte[] writeMethod(String name, String descriptor, Code code, int maxStack, int maxLocals)
+        throws IOException {
+        byte[] instructions = code.toByteArray();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(utf8Constant(name));
+        out.writeShort(utf8Constant(descriptor));
+        out.writeShort(1);
+        out.writeShort(utf8Constant("Code"));
+        out.writeInt(12 + instructions.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(instructions.length);
+        out.write(instructions);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private int utf8Constant(String value) throws IOException {
+        Integer index = _constantIndexes.get("U" + value);
+        if (index != null)
+            return index;
+
+        _constantsOut.writeByte(1);
+        _constantsOut.writeUTF(value);
+        return addConstant("U" + value);
+    }
+
+    private int classConstant(String internalName) throws IOException {
+        Integer index = _constantIndexes.get("C" + internalName);
+        if (index != null)
+            return index;
+
+        int name = utf8Constant(internalName);
+        _constantsOut.writeByte(7);
+        _constantsOut.writeShort(name);
+        return addConstant("C" + internalName);
+    }
+
+    private int fieldConstant(String owner, String name, String descriptor) throws IOException {
+        return memberConstant(9, owner, name, descriptor);
+    }
+
+    // 9 for a field, 10 for a class method, 11 for an interface method
+    private int memberConstant(int tag, String owner, String name, String descriptor) throws IOException {
+        String key = "M" + tag + owner + "." + name + descriptor;
+        Integer index = _constantIndexes.get(key);
+        if (index != null)
+            return index;
+
+        int ownerClass = classConstant(owner);
+        int nameAndType = nameAndTypeConstant(name, descriptor);
+        _constantsOut.writeByte(tag);
+        _constantsOut.writeShort(ownerClass);
+        _constantsOut.writeShort(nameAndType);
+        return addConstant(key);
+    }
+
+    private int nameAndTypeConstant(String name, String descriptor) throws IOException {
+        String key = "N" + name + descriptor;
+        Integer index = _constantIndexes.get(key);
+        if (index != null)
+            return index;
+
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+        _constantsOut.writeByte(12);
+        _constantsOut.writeShort(nameIndex);
+        _constantsOut.writeShort(descriptorIndex);
+        return addConstant(key);
+    }
+
+    private int addConstant(String key) {
+        int index = _constantCount++;
+        _constantIndexes.put(key, index);
+        return index;
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type == void.class)
+            return "V";
+        if (type == boolean.class)
+            return "Z";
+        if (type == byte.class)
+            return "B";
+        if (type == char.class)
+            return "C";
+        if (type == short.class)
+            return "S";
+        if (type == int.class)
+            return "I";
+        if (type == long.class)
+            return "J";
+        if (type == float.class)
+            return "F";
+        if (type == double.class)
+            return "D";
+        if (type.isArray())
+            return type.getName().replace('.', '/');
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    private static class Code extends ByteArrayOutputStream {
+
+        public Code op(int op) {
+            write(op);
+            return this;
+        }
+
+        public Code u2(int value) {
+            write(value >>> 8);
+            write(value);
+            return this;
+        }
+
+    }
+
+}
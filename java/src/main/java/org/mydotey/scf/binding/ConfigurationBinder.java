@@ -0,0 +1,63 @@
+package org.mydotey.scf.binding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.type.TypeConverter;
+
+/**
+ * bind an interface or a class to the properties under a key prefix
+ * <p>
+ * a property config is created for each accessor, with the key "prefix.name",
+ * name for the accessor getFoo, isFoo or setFoo is foo
+ * <p>
+ * an interface is bound by its abstract getters, @see {@link InterfaceBinding}
+ * <p>
+ * a class is bound by its public no-arg constructor and public setters, @see {@link PojoBinding}
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("rawtypes")
+public class ConfigurationBinder {
+
+    private ConfigurationManager _manager;
+    private List<TypeConverter> _valueConverters;
+
+    public ConfigurationBinder(ConfigurationManager manager) {
+        Objects.requireNonNull(manager, "manager is null");
+
+        _manager = manager;
+        _valueConverters = new ArrayList<>();
+    }
+
+    /**
+     * value converters for all the property configs created, such as the ones from String
+     */
+    public ConfigurationBinder addValueConverter(TypeConverter valueConverter) {
+        Objects.requireNonNull(valueConverter, "valueConverter is null");
+        _valueConverters.add(valueConverter);
+        return this;
+    }
+
+    public ConfigurationBinder addValueConverters(Collection<TypeConverter> valueConverters) {
+        Objects.requireNonNull(valueConverters, "valueConverters is null");
+        valueConverters.forEach(this::addValueConverter);
+        return this;
+    }
+
+    public <T> Binding<T> bind(String prefix, Class<T> type) {
+        Objects.requireNonNull(prefix, "prefix is null");
+        Objects.requireNonNull(type, "type is null");
+
+        List<TypeConverter> valueConverters = new ArrayList<>(_valueConverters);
+        if (type.isInterface())
+            return new InterfaceBinding<>(_manager, prefix, type, valueConverters);
+        return new PojoBinding<>(_manager, prefix, type, valueConverters);
+    }
+
+}
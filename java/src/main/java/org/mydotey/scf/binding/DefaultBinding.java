@@ -0,0 +1,175 @@
+package org.mydotey.scf.binding;
+
+import java.beans.Introspector;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.ConfigurationSnapshot;
+import org.mydotey.scf.Property;
+import org.mydotey.scf.PropertyChangeEvent;
+import org.mydotey.scf.PropertyConfig;
+import org.mydotey.scf.facade.ConfigurationProperties;
+import org.mydotey.scf.type.TypeConverter;
+
+/**
+ * the bound object is rebuilt from the manager snapshot, on the property changes in the prefix subtree,
+ * so that all the changes of a source change are applied in one new bound object
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("rawtypes")
+public abstract class DefaultBinding<T> implements Binding<T> {
+
+    private static final Map<Class<?>, Class<?>> BOXED_TYPES = new HashMap<>();
+
+    static {
+        BOXED_TYPES.put(boolean.class, Boolean.class);
+        BOXED_TYPES.put(byte.class, Byte.class);
+        BOXED_TYPES.put(char.class, Character.class);
+        BOXED_TYPES.put(short.class, Short.class);
+        BOXED_TYPES.put(int.class, Integer.class);
+        BOXED_TYPES.put(long.class, Long.class);
+        BOXED_TYPES.put(float.class, Float.class);
+        BOXED_TYPES.put(double.class, Double.class);
+    }
+
+    private ConfigurationManager _manager;
+    private String _prefix;
+    private Class<T> _type;
+    private Collection<TypeConverter> _valueConverters;
+
+    private List<PropertyConfig> _propertyConfigs;
+    // held by the binding, so that they are kept updated in the weak property registry mode
+    private Collection<Property> _properties;
+    private Consumer<PropertyChangeEvent> _changeListener;
+
+    // guarded by this
+    private long _version;
+    private volatile T _value;
+
+    protected DefaultBinding(ConfigurationManager manager, String prefix, Class<T> type,
+        Collection<TypeConverter> valueConverters) {
+        Objects.requireNonNull(manager, "manager is null");
+        Objects.requireNonNull(prefix, "prefix is null");
+        Objects.requireNonNull(type, "type is null");
+
+        _manager = manager;
+        _prefix = prefix;
+        _type = type;
+        _valueConverters = valueConverters == null ? Collections.emptyList() : valueConverters;
+        _propertyConfigs = new ArrayList<>();
+        _version = -1;
+    }
+
+    /**
+     * create the properties, build the first bound object, and listen to the subtree
+     * <p>
+     * invoked once the property configs are all added
+     */
+    protected void init() {
+        _properties = _manager.getProperties(_propertyConfigs).values();
+
+        // held by the binding, so that the binding can be garbage collected with the bound objects
+        _changeListener = e -> refresh();
+        _manager.getSubtree(_prefix).addWeakChangeListener(_changeListener);
+
+        refresh();
+    }
+
+    @Override
+    public String getPrefix() {
+        return _prefix;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return _type;
+    }
+
+    @Override
+    public T get() {
+        return _value;
+    }
+
+    protected List<PropertyConfig> getPropertyConfigs() {
+        return _propertyConfigs;
+    }
+
+    /**
+     * the index of the property value in the values for {@link #newValue(Object[])} returned
+     */
+    @SuppressWarnings("unchecked")
+    protected int addPropertyConfig(String name, Class<?> valueType) {
+        String key = _prefix.isEmpty() ? name : _prefix + "." + name;
+        Class<?> boxedType = box(valueType);
+
+        PropertyConfig.Builder builder;
+        if (boxedType == Integer.class)
+            builder = ConfigurationProperties.newIntConfigBuilder();
+        else if (boxedType == Long.class)
+            builder = ConfigurationProperties.newLongConfigBuilder();
+        else if (boxedType == Double.class)
+            builder = ConfigurationProperties.newDoubleConfigBuilder();
+        else if (boxedType == Boolean.class)
+            builder = ConfigurationProperties.newBooleanConfigBuilder();
+        else
+            builder = ConfigurationProperties.newConfigBuilder().setValueType((Class) boxedType);
+
+        _propertyConfigs.add(builder.setKey(key).addValueConverters(_valueConverters).build());
+        return _propertyConfigs.size() - 1;
+    }
+
+    protected synchronized void refresh() {
+        ConfigurationSnapshot snapshot = _manager.snapshot();
+        if (snapshot.getVersion() <= _version)
+            return;
+
+        Object[] values = new Object[_propertyConfigs.size()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = snapshot.getValue(_propertyConfigs.get(i).getKey());
+
+        _value = newValue(values);
+        _version = snapshot.getVersion();
+    }
+
+    /**
+     * build a bound object with the property values, in the order of the property configs added
+     */
+    protected abstract T newValue(Object[] values);
+
+    protected static Class<?> box(Class<?> type) {
+        Class<?> boxedType = BOXED_TYPES.get(type);
+        return boxedType == null ? type : boxedType;
+    }
+
+    /**
+     * getFoo, isFoo, setFoo for foo, or the method name
+     */
+    protected static String getPropertyName(Method method) {
+        String name = method.getName();
+        for (String prefix : new String[] { "get", "set", "is" }) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)
+                && Character.isUpperCase(name.charAt(prefix.length())))
+                return Introspector.decapitalize(name.substring(prefix.length()));
+        }
+
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { prefix: %s, type: %s, value: %s }", getClass().getSimpleName(), _prefix,
+            _type.getName(), _value);
+    }
+
+}
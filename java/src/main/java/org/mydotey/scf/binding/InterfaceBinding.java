@@ -0,0 +1,176 @@
+package org.mydotey.scf.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.type.TypeConverter;
+
+/**
+ * an interface bound by a generated class, the abstract getters for the properties
+ * <p>
+ * each bound object holds an immutable values array, a getter is a read of its array element,
+ * null for no value, or zero value for a primitive getter. no proxy, no reflection on a getter call
+ * <p>
+ * the default methods of the interface are inherited by the generated class, so they work as is
+ * <p>
+ * the class is defined in the package of the interface, by a private lookup on Java 9+,
+ * or by a child class loader of the interface class loader on Java 8, for which the interface
+ * and the getter return types need to be public
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+@SuppressWarnings("rawtypes")
+public class InterfaceBinding<T> extends DefaultBinding<T> {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class,
+        Function.class);
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+
+    private List<String> _names;
+    private Object[] _zeroValues;
+    private MethodHandle _constructor;
+    private Function<Object[], String> _toString;
+
+    public InterfaceBinding(ConfigurationManager manager, String prefix, Class<T> type,
+        Collection<TypeConverter> valueConverters) {
+        super(manager, prefix, type, valueConverters);
+
+        if (!type.isInterface())
+            throw new IllegalArgumentException("type is not an interface: " + type);
+
+        List<Method> getters = new ArrayList<>();
+        _names = new ArrayList<>();
+        List<Object> zeroValues = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method))
+                continue;
+
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class)
+                throw new IllegalArgumentException("not a getter: " + method);
+
+            String name = getPropertyName(method);
+            addPropertyConfig(name, method.getReturnType());
+            getters.add(method);
+            _names.add(name);
+            zeroValues.add(method.getReturnType().isPrimitive()
+                ? Array.get(Array.newInstance(method.getReturnType(), 1), 0)
+                : null);
+        }
+
+        _zeroValues = zeroValues.toArray();
+        _constructor = toConstructor(type, getters);
+        _toString = this::toString;
+
+        init();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected T newValue(Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null)
+                values[i] = _zeroValues[i];
+        }
+
+        try {
+            return (T) _constructor.invokeExact(values, _toString);
+        } catch (Throwable e) {
+            throw new IllegalStateException("failed to construct the bound object of " + getType(), e);
+        }
+    }
+
+    /**
+     * the constructor (Object[] values, Function toString) of the generated class
+     */
+    protected MethodHandle toConstructor(Class<T> type, List<Method> getters) {
+        String className = type.getName() + "$$Bound" + CLASS_COUNTER.incrementAndGet();
+        byte[] bytes = BoundClassWriter.write(className, type, getters);
+
+        Class<?> boundClass = defineInPackage(type, bytes);
+        if (boundClass == null) {
+            if (!Modifier.isPublic(type.getModifiers()))
+                throw new IllegalArgumentException("type is not a public interface: " + type);
+            for (Method getter : getters) {
+                if (!isPublic(getter.getReturnType()))
+                    throw new IllegalArgumentException("getter return type is not public: " + getter);
+            }
+
+            boundClass = new BoundClassLoader(type.getClassLoader()).define(className, bytes);
+        }
+
+        try {
+            return MethodHandles.publicLookup()
+                .findConstructor(boundClass, MethodType.methodType(void.class, Object[].class, Function.class))
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("failed to bind: " + type, e);
+        }
+    }
+
+    /**
+     * define the class in the package of the interface by MethodHandles.privateLookupIn on Java 9+,
+     * null if not supported or not allowed
+     */
+    protected Class<?> defineInPackage(Class<T> type, byte[] bytes) {
+        try {
+            Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class,
+                MethodHandles.Lookup.class);
+            Method defineClass = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+            Object lookup = privateLookupIn.invoke(null, type, MethodHandles.lookup());
+            return (Class<?>) defineClass.invoke(lookup, (Object) bytes);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    protected String toString(Object[] values) {
+        Map<String, Object> namedValues = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++)
+            namedValues.put(_names.get(i), values[i]);
+        return getType().getSimpleName() + " " + namedValues;
+    }
+
+    // redeclared Object methods, such as toString, are not getters
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        while (type.isArray())
+            type = type.getComponentType();
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+    }
+
+    private static class BoundClassLoader extends ClassLoader {
+
+        public BoundClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        public Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+    }
+
+}
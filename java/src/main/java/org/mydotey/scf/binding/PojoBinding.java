@@ -0,0 +1,135 @@
+package org.mydotey.scf.binding;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.type.TypeConverter;
+
+/**
+ * a class bound by its no-arg constructor and setters, the setters for the properties
+ * <p>
+ * the constructor and the setters are turned into lambdas by LambdaMetafactory once bound,
+ * so that a bound object is built with direct calls, no reflection. a setter is not called for no value
+ * <p>
+ * a property has one setter, overloaded setters of a property are rejected
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class PojoBinding<T> extends DefaultBinding<T> {
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private Supplier<T> _constructor;
+    private List<BiConsumer<Object, Object>> _setters;
+
+    @SuppressWarnings("rawtypes")
+    public PojoBinding(ConfigurationManager manager, String prefix, Class<T> type,
+        Collection<TypeConverter> valueConverters) {
+        super(manager, prefix, type, valueConverters);
+
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            throw new IllegalArgumentException("type is not a concrete class: " + type);
+
+        _constructor = toConstructor(type);
+        _setters = new ArrayList<>();
+        Map<String, Method> setters = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 1
+                || !method.getName().startsWith("set") || method.getName().length() == 3)
+                continue;
+
+            String name = getPropertyName(method);
+            Method other = setters.put(name, method);
+            if (other != null)
+                throw new IllegalArgumentException(
+                    String.format("overloaded setters for the property %s: %s, %s", name, other, method));
+
+            addPropertyConfig(name, method.getParameterTypes()[0]);
+            _setters.add(toSetter(method));
+        }
+
+        init();
+    }
+
+    @Override
+    protected T newValue(Object[] values) {
+        T value = _constructor.get();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null)
+                _setters.get(i).accept(value, values[i]);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Supplier<T> toConstructor(Class<T> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle;
+        try {
+            handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("no public no-arg constructor: " + type, e);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                SUPPLIER_TYPE, handle, MethodType.methodType(type));
+            return (Supplier<T>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // the class not accessible to the lambda, call the method handle directly
+            MethodHandle generic = handle.asType(SUPPLIER_TYPE);
+            return () -> {
+                try {
+                    return (T) generic.invokeExact();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("failed to construct: " + type, t);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected BiConsumer<Object, Object> toSetter(Method method) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("setter not accessible: " + method, e);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                SETTER_TYPE, handle, MethodType.methodType(void.class, method.getDeclaringClass(),
+                    box(method.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // the class not accessible to the lambda, call the method handle directly
+            MethodHandle generic = handle.asType(SETTER_TYPE);
+            return (o, v) -> {
+                try {
+                    generic.invokeExact(o, v);
+                } catch (Throwable t) {
+                    throw new IllegalStateException("failed to set: " + method, t);
+                }
+            };
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.mydotey.java.ObjectExtension;
 import org.mydotey.scf.ConfigurationManager;
@@ -11,6 +12,7 @@ import org.mydotey.scf.ConfigurationManagerConfig;
 import org.mydotey.scf.ConfigurationSource;
 import org.mydotey.scf.DefaultConfigurationManager;
 import org.mydotey.scf.DefaultConfigurationManagerConfig;
+import org.mydotey.scf.FrozenConfigurationManager;
 
 /**
  * @author koqizhao
@@ -64,4 +66,25 @@ public class ConfigurationManagers {
         return new DefaultConfigurationManager(config);
     }
 
+    /**
+     * an immutable manager with the properties created in the manager, for the configuration never changed
+     * after boot
+     * <p>
+     * the manager is closed first, so that its properties are not updated any more, then the source changes
+     * queued before are applied, and the properties are frozen with the values of one snapshot
+     * @see FrozenConfigurationManager
+     */
+    public static ConfigurationManager freeze(ConfigurationManager manager) {
+        ObjectExtension.requireNonNull(manager, "manager");
+        manager.close();
+        try {
+            manager.awaitSourceChanges(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the source changes applied", e);
+        }
+
+        return new FrozenConfigurationManager(manager);
+    }
+
 }
@@ -2,6 +2,7 @@ package org.mydotey.scf.facade;
 
 import org.mydotey.scf.DefaultPropertyConfig;
 import org.mydotey.scf.PropertyConfig;
+import org.mydotey.scf.type.PrimitiveComparators;
 
 /**
  * @author koqizhao
@@ -18,4 +19,36 @@ public class ConfigurationProperties {
         return new DefaultPropertyConfig.Builder<>();
     }
 
+    /**
+     * for @see {@link org.mydotey.scf.ConfigurationManager#getIntProperty(PropertyConfig)}
+     */
+    public static <K> PropertyConfig.Builder<K, Integer> newIntConfigBuilder() {
+        return ConfigurationProperties.<K, Integer> newConfigBuilder().setValueType(Integer.class)
+            .setValueComparator(PrimitiveComparators.INT);
+    }
+
+    /**
+     * for @see {@link org.mydotey.scf.ConfigurationManager#getLongProperty(PropertyConfig)}
+     */
+    public static <K> PropertyConfig.Builder<K, Long> newLongConfigBuilder() {
+        return ConfigurationProperties.<K, Long> newConfigBuilder().setValueType(Long.class)
+            .setValueComparator(PrimitiveComparators.LONG);
+    }
+
+    /**
+     * for @see {@link org.mydotey.scf.ConfigurationManager#getDoubleProperty(PropertyConfig)}
+     */
+    public static <K> PropertyConfig.Builder<K, Double> newDoubleConfigBuilder() {
+        return ConfigurationProperties.<K, Double> newConfigBuilder().setValueType(Double.class)
+            .setValueComparator(PrimitiveComparators.DOUBLE);
+    }
+
+    /**
+     * for @see {@link org.mydotey.scf.ConfigurationManager#getBooleanProperty(PropertyConfig)}
+     */
+    public static <K> PropertyConfig.Builder<K, Boolean> newBooleanConfigBuilder() {
+        return ConfigurationProperties.<K, Boolean> newConfigBuilder().setValueType(Boolean.class)
+            .setValueComparator(PrimitiveComparators.BOOLEAN);
+    }
+
 }
@@ -2,6 +2,16 @@ package org.mydotey.scf.facade;
 
 import org.mydotey.scf.ConfigurationSourceConfig;
 import org.mydotey.scf.DefaultConfigurationSourceConfig;
+import org.mydotey.scf.source.CompactConfigurationSource;
+import org.mydotey.scf.source.CompactConfigurationSourceConfig;
+import org.mydotey.scf.source.DefaultCompactConfigurationSourceConfig;
+import org.mydotey.scf.source.DefaultDirectoryConfigurationSourceConfig;
+import org.mydotey.scf.source.DefaultFileConfigurationSourceConfig;
+import org.mydotey.scf.source.DirectoryConfigurationSource;
+import org.mydotey.scf.source.DirectoryConfigurationSourceConfig;
+import org.mydotey.scf.source.EnvironmentConfigurationSource;
+import org.mydotey.scf.source.FileConfigurationSource;
+import org.mydotey.scf.source.FileConfigurationSourceConfig;
 
 /**
  * @author koqizhao
@@ -22,4 +32,32 @@ public class ConfigurationSources {
         return new DefaultConfigurationSourceConfig.Builder();
     }
 
+    public static FileConfigurationSourceConfig.Builder newFileConfigBuilder() {
+        return new DefaultFileConfigurationSourceConfig.Builder();
+    }
+
+    public static FileConfigurationSource newFileSource(FileConfigurationSourceConfig config) {
+        return new FileConfigurationSource(config);
+    }
+
+    public static DirectoryConfigurationSourceConfig.Builder newDirectoryConfigBuilder() {
+        return new DefaultDirectoryConfigurationSourceConfig.Builder();
+    }
+
+    public static DirectoryConfigurationSource newDirectorySource(DirectoryConfigurationSourceConfig config) {
+        return new DirectoryConfigurationSource(config);
+    }
+
+    public static CompactConfigurationSourceConfig.Builder newCompactConfigBuilder() {
+        return new DefaultCompactConfigurationSourceConfig.Builder();
+    }
+
+    public static CompactConfigurationSource newCompactSource(CompactConfigurationSourceConfig config) {
+        return new CompactConfigurationSource(config);
+    }
+
+    public static EnvironmentConfigurationSource newEnvironmentSource(String name) {
+        return new EnvironmentConfigurationSource(newConfig(name));
+    }
+
 }
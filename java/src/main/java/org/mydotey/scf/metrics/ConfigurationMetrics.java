@@ -0,0 +1,65 @@
+package org.mydotey.scf.metrics;
+
+/**
+ * metrics spi of the configuration manager
+ * <p>
+ * invoked in the lookup and update paths, the implementation should be thread-safe, non-blocking,
+ * and should not throw
+ * <p>
+ * the priority is the priority of the source the metric is about
+ * @see DefaultConfigurationMetrics
+ * @see org.mydotey.scf.ConfigurationManagerConfig#getMetrics()
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface ConfigurationMetrics {
+
+    /**
+     * a property value lookup through the sources, for a single property or a batch
+     */
+    void recordLookup(long nanos);
+
+    /**
+     * a non-null value got from the source
+     */
+    void recordSourceHit(int priority);
+
+    /**
+     * no value got from the source
+     */
+    void recordSourceMiss(int priority);
+
+    /**
+     * the source skipped without asking, its key filter denied the key
+     * @see org.mydotey.scf.KeyFilteredConfigurationSource
+     */
+    void recordSourceSkip(int priority);
+
+    /**
+     * the source threw when getting values, the value conversion in the source included
+     */
+    void recordSourceFailure(int priority);
+
+    /**
+     * the value got from the source rejected by the value filter
+     */
+    void recordFilterRejection(int priority);
+
+    /**
+     * the value filter threw
+     */
+    void recordFilterFailure(int priority);
+
+    /**
+     * a pass updating the properties affected by source changes
+     */
+    void recordRecompute(int propertyCount, long nanos);
+
+    /**
+     * a property change event delivered to the listeners
+     */
+    void recordDispatch(long nanos);
+
+}
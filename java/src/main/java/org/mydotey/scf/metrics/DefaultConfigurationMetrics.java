@@ -0,0 +1,185 @@
+package org.mydotey.scf.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * in-memory metrics with LongAdder counters and latency histograms, no dependency
+ * <p>
+ * read the counters to report them to a metrics system periodically,
+ * or implement {@link ConfigurationMetrics} to record to the metrics system directly
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultConfigurationMetrics implements ConfigurationMetrics {
+
+    private LatencyHistogram _lookups;
+    private LatencyHistogram _recomputes;
+    private LatencyHistogram _dispatches;
+    private LongAdder _recomputedProperties;
+
+    private ConcurrentHashMap<Integer, SourceMetrics> _sourceMetrics;
+
+    public DefaultConfigurationMetrics() {
+        _lookups = new LatencyHistogram();
+        _recomputes = new LatencyHistogram();
+        _dispatches = new LatencyHistogram();
+        _recomputedProperties = new LongAdder();
+        _sourceMetrics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void recordLookup(long nanos) {
+        _lookups.record(nanos);
+    }
+
+    @Override
+    public void recordSourceHit(int priority) {
+        getSourceMetrics(priority)._hits.increment();
+    }
+
+    @Override
+    public void recordSourceMiss(int priority) {
+        getSourceMetrics(priority)._misses.increment();
+    }
+
+    @Override
+    public void recordSourceSkip(int priority) {
+        getSourceMetrics(priority)._skips.increment();
+    }
+
+    @Override
+    public void recordSourceFailure(int priority) {
+        getSourceMetrics(priority)._failures.increment();
+    }
+
+    @Override
+    public void recordFilterRejection(int priority) {
+        getSourceMetrics(priority)._filterRejections.increment();
+    }
+
+    @Override
+    public void recordFilterFailure(int priority) {
+        getSourceMetrics(priority)._filterFailures.increment();
+    }
+
+    @Override
+    public void recordRecompute(int propertyCount, long nanos) {
+        _recomputes.record(nanos);
+        _recomputedProperties.add(propertyCount);
+    }
+
+    @Override
+    public void recordDispatch(long nanos) {
+        _dispatches.record(nanos);
+    }
+
+    protected SourceMetrics getSourceMetrics(int priority) {
+        SourceMetrics sourceMetrics = _sourceMetrics.get(priority);
+        if (sourceMetrics == null)
+            sourceMetrics = _sourceMetrics.computeIfAbsent(priority, k -> new SourceMetrics());
+        return sourceMetrics;
+    }
+
+    public LatencyHistogram getLookups() {
+        return _lookups;
+    }
+
+    public LatencyHistogram getRecomputes() {
+        return _recomputes;
+    }
+
+    public LatencyHistogram getDispatches() {
+        return _dispatches;
+    }
+
+    public long getRecomputedProperties() {
+        return _recomputedProperties.sum();
+    }
+
+    /**
+     * key for the source priority, in descending order
+     */
+    public Map<Integer, SourceMetrics> getSourceMetrics() {
+        Map<Integer, SourceMetrics> sourceMetrics = new TreeMap<>(Collections.reverseOrder());
+        sourceMetrics.putAll(_sourceMetrics);
+        return sourceMetrics;
+    }
+
+    public void reset() {
+        _lookups.reset();
+        _recomputes.reset();
+        _dispatches.reset();
+        _recomputedProperties.reset();
+        _sourceMetrics.values().forEach(SourceMetrics::reset);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s { lookups: %s, recomputes: %s, recomputedProperties: %s, dispatches: %s, sourceMetrics: %s }",
+            getClass().getSimpleName(), _lookups, _recomputes, getRecomputedProperties(), _dispatches,
+            getSourceMetrics());
+    }
+
+    public static class SourceMetrics {
+
+        private LongAdder _hits = new LongAdder();
+        private LongAdder _misses = new LongAdder();
+        private LongAdder _skips = new LongAdder();
+        private LongAdder _failures = new LongAdder();
+        private LongAdder _filterRejections = new LongAdder();
+        private LongAdder _filterFailures = new LongAdder();
+
+        public long getHits() {
+            return _hits.sum();
+        }
+
+        public long getMisses() {
+            return _misses.sum();
+        }
+
+        /**
+         * the negative lookups answered by the key filter, without asking the source
+         */
+        public long getSkips() {
+            return _skips.sum();
+        }
+
+        public long getFailures() {
+            return _failures.sum();
+        }
+
+        public long getFilterRejections() {
+            return _filterRejections.sum();
+        }
+
+        public long getFilterFailures() {
+            return _filterFailures.sum();
+        }
+
+        protected void reset() {
+            _hits.reset();
+            _misses.reset();
+            _skips.reset();
+            _failures.reset();
+            _filterRejections.reset();
+            _filterFailures.reset();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%s { hits: %s, misses: %s, skips: %s, failures: %s, filterRejections: %s, filterFailures: %s }",
+                getClass().getSimpleName(), getHits(), getMisses(), getSkips(), getFailures(), getFilterRejections(),
+                getFilterFailures());
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.mydotey.scf.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * lock-free latency histogram with power-of-two buckets
+ * <p>
+ * bucket i counts the latencies in [2^(i-1), 2^i) nanoseconds, bucket 0 counts 0,
+ * so that a percentile is an upper bound within 2x of the real one
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private LongAdder[] _buckets;
+    private LongAdder _count;
+    private LongAdder _totalNanos;
+    private LongAccumulator _maxNanos;
+
+    public LatencyHistogram() {
+        _buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            _buckets[i] = new LongAdder();
+        _count = new LongAdder();
+        _totalNanos = new LongAdder();
+        _maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+
+        _buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(nanos)].increment();
+        _count.increment();
+        _totalNanos.add(nanos);
+        _maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return _count.sum();
+    }
+
+    public long getTotalNanos() {
+        return _totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return _maxNanos.get();
+    }
+
+    /**
+     * upper bound of the percentile, in nanoseconds
+     * <p>
+     * percentile in [0, 100], 0 returned if nothing recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile not in [0, 100]: " + percentile);
+
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = _buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0)
+            return 0;
+
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0)
+                return Math.min(upperBound(i), getMaxNanos());
+        }
+
+        return getMaxNanos();
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : _buckets)
+            bucket.reset();
+        _count.reset();
+        _totalNanos.reset();
+        _maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { count: %s, totalNanos: %s, maxNanos: %s, p50: %s, p99: %s }",
+            getClass().getSimpleName(), getCount(), getTotalNanos(), getMaxNanos(), getPercentile(50),
+            getPercentile(99));
+    }
+
+}
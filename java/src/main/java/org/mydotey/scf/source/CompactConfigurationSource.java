@@ -0,0 +1,356 @@
+package org.mydotey.scf.source;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.mydotey.scf.AbstractConfigurationSource;
+import org.mydotey.scf.EnumerableConfigurationSource;
+import org.mydotey.scf.KeyFilter;
+import org.mydotey.scf.KeyFilteredConfigurationSource;
+
+/**
+ * in-memory source for a very large key set, bulk loaded, with the String keys and values
+ * <p>
+ * the keys and values are stored as UTF-8 bytes in one byte arena per generation, in the heap or out of it,
+ * indexed by an open addressing hash table of int arrays, a few dozens of bytes per entry less than a HashMap,
+ * and a few objects per generation instead of several per entry for the gc
+ * <p>
+ * a lookup is one probe sequence comparing the stored hash codes, the value is decoded only when looked up
+ * <p>
+ * the generation is immutable, {@link #load(Map)} and {@link #update(Map)} build a new one and swap it in,
+ * a lookup sees one generation, the old or the new. the arena size of a generation is limited to 2 GB
+ * <p>
+ * the keys are enumerated by a scan of the generation
+ * <p>
+ * the key filter is the generation itself, probing the stored hash codes only, without reading the arena
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class CompactConfigurationSource extends AbstractConfigurationSource<CompactConfigurationSourceConfig>
+        implements EnumerableConfigurationSource, KeyFilteredConfigurationSource {
+
+    private volatile Generation _generation;
+
+    public CompactConfigurationSource(CompactConfigurationSourceConfig config) {
+        super(config);
+
+        _generation = newGeneration(null, Collections.emptyMap());
+    }
+
+    @Override
+    protected Object getPropertyValue(Object key) {
+        return key instanceof String ? _generation.getValue((String) key) : null;
+    }
+
+    @Override
+    protected Map<Object, Object> getPropertyValuesByKeys(Set<Object> keys) {
+        // one generation for all the keys, so that the values are consistent
+        Generation generation = _generation;
+        Map<Object, Object> values = new HashMap<>();
+        keys.forEach(k -> {
+            String value = k instanceof String ? generation.getValue((String) k) : null;
+            if (value != null)
+                values.put(k, value);
+        });
+        return values;
+    }
+
+    @Override
+    public Set<String> getKeys(String prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+
+        String childPrefix = prefix + ".";
+        Set<String> keys = new HashSet<>();
+        _generation.forEachKey(k -> {
+            if (prefix.isEmpty() || k.equals(prefix) || k.startsWith(childPrefix))
+                keys.add(k);
+        });
+        return keys;
+    }
+
+    @Override
+    public KeyFilter getKeyFilter() {
+        return _generation;
+    }
+
+    public int size() {
+        return _generation.size();
+    }
+
+    /**
+     * replace all the properties, and raise a change event for the whole source
+     * <p>
+     * the null keys or values are ignored
+     */
+    public synchronized void load(Map<String, String> properties) {
+        Objects.requireNonNull(properties, "properties is null");
+
+        _generation = newGeneration(null, properties);
+        raiseChangeEvent();
+    }
+
+    /**
+     * copy the current properties with the changes to a new generation, and raise a change event
+     * for the keys changed
+     * <p>
+     * a null value removes the key
+     */
+    public synchronized void update(Map<String, String> changes) {
+        Objects.requireNonNull(changes, "changes is null");
+
+        Generation generation = _generation;
+        Map<String, String> changed = new HashMap<>();
+        changes.forEach((k, v) -> {
+            if (k != null && !Objects.equals(generation.getValue(k), v))
+                changed.put(k, v);
+        });
+        if (changed.isEmpty())
+            return;
+
+        _generation = newGeneration(generation, changed);
+        raiseChangeEvent(changed.keySet());
+    }
+
+    /**
+     * the entries of the base generation not in the changes, and the non-null entries of the changes
+     */
+    protected Generation newGeneration(Generation base, Map<String, String> changes) {
+        // the base slots of the changed keys
+        BitSet replaced = new BitSet();
+        long arenaSize = 0;
+        int count = 0;
+        if (base != null) {
+            changes.keySet().forEach(k -> {
+                int slot = base.findSlot(k);
+                if (slot >= 0)
+                    replaced.set(slot);
+            });
+
+            for (int slot = 0; slot < base._offsets.length; slot++) {
+                int offset = base._offsets[slot];
+                if (offset >= 0 && !replaced.get(slot)) {
+                    arenaSize += base.getEntryLength(offset);
+                    count++;
+                }
+            }
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<byte[]> entries = new ArrayList<>();
+        for (Map.Entry<String, String> change : changes.entrySet()) {
+            if (change.getKey() == null || change.getValue() == null)
+                continue;
+
+            byte[] key = change.getKey().getBytes(StandardCharsets.UTF_8);
+            byte[] value = change.getValue().getBytes(StandardCharsets.UTF_8);
+            keys.add(change.getKey());
+            entries.add(key);
+            entries.add(value);
+            arenaSize += Generation.HEADER_SIZE + key.length + value.length;
+            count++;
+        }
+
+        if (arenaSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("the properties are too large for a generation: " + arenaSize);
+
+        Generation generation = new Generation(allocate((int) arenaSize), count);
+        if (base != null) {
+            for (int slot = 0; slot < base._offsets.length; slot++) {
+                int offset = base._offsets[slot];
+                if (offset >= 0 && !replaced.get(slot))
+                    generation.copy(base, offset, base._hashes[slot]);
+            }
+        }
+        for (int i = 0; i < keys.size(); i++)
+            generation.put(keys.get(i).hashCode(), entries.get(2 * i), entries.get(2 * i + 1));
+
+        return generation;
+    }
+
+    protected ByteBuffer allocate(int capacity) {
+        return getConfig().isOffHeap() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * entry layout in the arena: key length (int), value length (int), key bytes, value bytes
+     */
+    protected static class Generation implements KeyFilter {
+
+        private static final int HEADER_SIZE = 8;
+
+        private ByteBuffer _arena;
+        // slot -> entry offset, -1 for an empty slot
+        private int[] _offsets;
+        // slot -> the String hash code of the key
+        private int[] _hashes;
+        private int _mask;
+        private int _size;
+
+        private Generation(ByteBuffer arena, int count) {
+            // load factor no more than 0.75, at least one empty slot to stop the probes
+            int capacity = Integer.highestOneBit((int) Math.max(1, Math.min(1 << 29, count * 4L / 3))) << 1;
+            _arena = arena;
+            _offsets = new int[capacity];
+            Arrays.fill(_offsets, -1);
+            _hashes = new int[capacity];
+            _mask = capacity - 1;
+        }
+
+        public int size() {
+            return _size;
+        }
+
+        /**
+         * null if not found
+         */
+        public String getValue(String key) {
+            int offset = find(key);
+            if (offset < 0)
+                return null;
+
+            int keyLength = _arena.getInt(offset);
+            return decode(offset + HEADER_SIZE + keyLength, _arena.getInt(offset + 4));
+        }
+
+        public void forEachKey(Consumer<String> action) {
+            for (int offset : _offsets) {
+                if (offset >= 0)
+                    action.accept(decode(offset + HEADER_SIZE, _arena.getInt(offset)));
+            }
+        }
+
+        /**
+         * false positive only for a key of the same hash code with a stored one
+         */
+        @Override
+        public boolean mightContain(Object key) {
+            if (!(key instanceof String))
+                return false;
+
+            int hash = key.hashCode();
+            for (int slot = spread(hash) & _mask;; slot = (slot + 1) & _mask) {
+                if (_offsets[slot] < 0)
+                    return false;
+                if (_hashes[slot] == hash)
+                    return true;
+            }
+        }
+
+        /**
+         * the entry offset, -1 if not found
+         */
+        protected int find(String key) {
+            int slot = findSlot(key);
+            return slot < 0 ? -1 : _offsets[slot];
+        }
+
+        /**
+         * the slot of the key, -1 if not found
+         */
+        protected int findSlot(String key) {
+            int hash = key.hashCode();
+            for (int slot = spread(hash) & _mask;; slot = (slot + 1) & _mask) {
+                int offset = _offsets[slot];
+                if (offset < 0)
+                    return -1;
+                if (_hashes[slot] == hash && keyEquals(offset, key))
+                    return slot;
+            }
+        }
+
+        protected int getEntryLength(int offset) {
+            return HEADER_SIZE + _arena.getInt(offset) + _arena.getInt(offset + 4);
+        }
+
+        private void put(int hash, byte[] key, byte[] value) {
+            int offset = _arena.position();
+            _arena.putInt(key.length);
+            _arena.putInt(value.length);
+            _arena.put(key);
+            _arena.put(value);
+            index(hash, offset);
+        }
+
+        private void copy(Generation base, int baseOffset, int hash) {
+            int offset = _arena.position();
+            ByteBuffer entry = base._arena.duplicate();
+            ((Buffer) entry).limit(baseOffset + base.getEntryLength(baseOffset));
+            ((Buffer) entry).position(baseOffset);
+            _arena.put(entry);
+            index(hash, offset);
+        }
+
+        private void index(int hash, int offset) {
+            int slot = spread(hash) & _mask;
+            while (_offsets[slot] >= 0)
+                slot = (slot + 1) & _mask;
+            _offsets[slot] = offset;
+            _hashes[slot] = hash;
+            _size++;
+        }
+
+        // compare the chars with the bytes for an ASCII key, without encoding it
+        private boolean keyEquals(int offset, String key) {
+            int keyLength = _arena.getInt(offset);
+            int length = key.length();
+            // a char is encoded to at least one byte
+            if (length > keyLength)
+                return false;
+
+            int start = offset + HEADER_SIZE;
+            for (int i = 0; i < length; i++) {
+                char c = key.charAt(i);
+                if (c >= 0x80)
+                    return bytesEqual(start, keyLength, key.getBytes(StandardCharsets.UTF_8));
+                if (_arena.get(start + i) != c)
+                    return false;
+            }
+
+            return length == keyLength;
+        }
+
+        private boolean bytesEqual(int start, int length, byte[] bytes) {
+            if (length != bytes.length)
+                return false;
+
+            for (int i = 0; i < length; i++) {
+                if (_arena.get(start + i) != bytes[i])
+                    return false;
+            }
+
+            return true;
+        }
+
+        private String decode(int start, int length) {
+            if (_arena.hasArray())
+                return new String(_arena.array(), _arena.arrayOffset() + start, length, StandardCharsets.UTF_8);
+
+            byte[] bytes = new byte[length];
+            ByteBuffer buffer = _arena.duplicate();
+            ((Buffer) buffer).position(start);
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+
+    }
+
+}
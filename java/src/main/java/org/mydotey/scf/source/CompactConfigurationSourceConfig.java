@@ -0,0 +1,37 @@
+package org.mydotey.scf.source;
+
+import org.mydotey.scf.ConfigurationSourceConfig;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface CompactConfigurationSourceConfig extends ConfigurationSourceConfig {
+
+    /**
+     * whether the keys and values are stored out of the heap, by direct buffers
+     * <p>
+     * by default false, stored in heap byte arrays
+     * <p>
+     * if true, the heap and the gc pressure is saved, the memory is freed when the generation
+     * buffer is garbage collected
+     */
+    boolean isOffHeap();
+
+    public interface Builder extends AbstractBuilder<Builder, CompactConfigurationSourceConfig> {
+
+    }
+
+    public interface AbstractBuilder<B extends AbstractBuilder<B, C>, C extends CompactConfigurationSourceConfig>
+            extends ConfigurationSourceConfig.AbstractBuilder<B, C> {
+
+        /**
+         * optional
+         * @see CompactConfigurationSourceConfig#isOffHeap()
+         */
+        B setOffHeap(boolean offHeap);
+
+    }
+
+}
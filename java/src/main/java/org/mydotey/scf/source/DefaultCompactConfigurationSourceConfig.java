@@ -0,0 +1,58 @@
+package org.mydotey.scf.source;
+
+import org.mydotey.scf.DefaultConfigurationSourceConfig;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultCompactConfigurationSourceConfig extends DefaultConfigurationSourceConfig
+        implements CompactConfigurationSourceConfig {
+
+    private boolean _offHeap;
+
+    protected DefaultCompactConfigurationSourceConfig() {
+
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return _offHeap;
+    }
+
+    @Override
+    public DefaultCompactConfigurationSourceConfig clone() {
+        return (DefaultCompactConfigurationSourceConfig) super.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { name: %s, offHeap: %s }", getClass().getSimpleName(), getName(), _offHeap);
+    }
+
+    public static class Builder
+            extends DefaultAbstractBuilder<CompactConfigurationSourceConfig.Builder, CompactConfigurationSourceConfig>
+            implements CompactConfigurationSourceConfig.Builder {
+
+    }
+
+    @SuppressWarnings("unchecked")
+    public static abstract class DefaultAbstractBuilder<B extends CompactConfigurationSourceConfig.AbstractBuilder<B, C>, C extends CompactConfigurationSourceConfig>
+            extends DefaultConfigurationSourceConfig.DefaultAbstractBuilder<B, C>
+            implements CompactConfigurationSourceConfig.AbstractBuilder<B, C> {
+
+        @Override
+        protected C newConfig() {
+            return (C) new DefaultCompactConfigurationSourceConfig();
+        }
+
+        @Override
+        public B setOffHeap(boolean offHeap) {
+            ((DefaultCompactConfigurationSourceConfig) getConfig())._offHeap = offHeap;
+            return (B) this;
+        }
+
+    }
+
+}
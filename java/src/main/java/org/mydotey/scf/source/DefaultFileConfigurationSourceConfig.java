@@ -0,0 +1,100 @@
+package org.mydotey.scf.source;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.mydotey.scf.DefaultConfigurationSourceConfig;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DefaultFileConfigurationSourceConfig extends DefaultConfigurationSourceConfig
+        implements FileConfigurationSourceConfig {
+
+    private Path _path;
+    private Charset _charset;
+    private boolean _watchEnabled;
+
+    protected DefaultFileConfigurationSourceConfig() {
+        _watchEnabled = true;
+    }
+
+    @Override
+    public Path getPath() {
+        return _path;
+    }
+
+    @Override
+    public Charset getCharset() {
+        return _charset;
+    }
+
+    @Override
+    public boolean isWatchEnabled() {
+        return _watchEnabled;
+    }
+
+    @Override
+    public DefaultFileConfigurationSourceConfig clone() {
+        return (DefaultFileConfigurationSourceConfig) super.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { name: %s, path: %s, charset: %s, watchEnabled: %s }", getClass().getSimpleName(),
+                getName(), _path, _charset, _watchEnabled);
+    }
+
+    public static class Builder
+            extends DefaultAbstractBuilder<FileConfigurationSourceConfig.Builder, FileConfigurationSourceConfig>
+            implements FileConfigurationSourceConfig.Builder {
+
+    }
+
+    @SuppressWarnings("unchecked")
+    public static abstract class DefaultAbstractBuilder<B extends FileConfigurationSourceConfig.AbstractBuilder<B, C>, C extends FileConfigurationSourceConfig>
+            extends DefaultConfigurationSourceConfig.DefaultAbstractBuilder<B, C>
+            implements FileConfigurationSourceConfig.AbstractBuilder<B, C> {
+
+        @Override
+        protected C newConfig() {
+            return (C) new DefaultFileConfigurationSourceConfig();
+        }
+
+        @Override
+        public B setPath(Path path) {
+            ((DefaultFileConfigurationSourceConfig) getConfig())._path = path;
+            return (B) this;
+        }
+
+        @Override
+        public B setCharset(Charset charset) {
+            ((DefaultFileConfigurationSourceConfig) getConfig())._charset = charset;
+            return (B) this;
+        }
+
+        @Override
+        public B setWatchEnabled(boolean watchEnabled) {
+            ((DefaultFileConfigurationSourceConfig) getConfig())._watchEnabled = watchEnabled;
+            return (B) this;
+        }
+
+        @Override
+        public C build() {
+            DefaultFileConfigurationSourceConfig config = (DefaultFileConfigurationSourceConfig) getConfig();
+            if (config._path == null)
+                throw new IllegalArgumentException("path is null");
+            config._path = config._path.toAbsolutePath().normalize();
+
+            if (config._charset == null)
+                config._charset = StandardCharsets.UTF_8;
+
+            return super.build();
+        }
+
+    }
+
+}
@@ -0,0 +1,301 @@
+package org.mydotey.scf.source;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.mydotey.scf.AbstractConfigurationSource;
+import org.mydotey.scf.EnumerableConfigurationSource;
+import org.mydotey.scf.KeyFilter;
+import org.mydotey.scf.KeyFilteredConfigurationSource;
+import org.mydotey.scf.KeyTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * directory source with a file per key, file name for the key, file content for the value
+ * <p>
+ * for the directory mounted in a container, the files are published by an atomic symlink swap:
+ * the files are in a generation directory, and the "..data" symlink points to the current generation.
+ * the source resolves "..data" once, and lists the generation in one pass, so that a half-swapped
+ * directory is never observed. a plain directory without "..data" is used as the generation itself
+ * <p>
+ * the file contents are read lazily on the first access. on reload, the new key set is published atomically,
+ * only the keys already read are read again for the diff, a key never read has no one to notify
+ * <p>
+ * the hidden files, whose names start with ".", are ignored
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DirectoryConfigurationSource extends AbstractConfigurationSource<DirectoryConfigurationSourceConfig>
+        implements EnumerableConfigurationSource, KeyFilteredConfigurationSource, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryConfigurationSource.class);
+
+    protected static final String DATA_LINK = "..data";
+
+    private volatile Generation _generation;
+
+    private WatchService _watchService;
+
+    public DirectoryConfigurationSource(DirectoryConfigurationSourceConfig config) {
+        super(config);
+
+        _generation = new Generation(null, Collections.emptyMap());
+        reload();
+
+        if (config.isWatchEnabled())
+            startWatcher();
+    }
+
+    @Override
+    protected Object getPropertyValue(Object key) {
+        Entry entry = _generation.getEntries().get(key);
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    protected Map<Object, Object> getPropertyValuesByKeys(Set<Object> keys) {
+        // one generation for all the keys, so that the values are consistent
+        Map<String, Entry> entries = _generation.getEntries();
+        Map<Object, Object> values = new HashMap<>();
+        keys.forEach(k -> {
+            Entry entry = entries.get(k);
+            String value = entry == null ? null : entry.getValue();
+            if (value != null)
+                values.put(k, value);
+        });
+        return values;
+    }
+
+    @Override
+    public Set<String> getKeys(String prefix) {
+        return _generation.getKeyTrie().getKeys(prefix);
+    }
+
+    /**
+     * the file names of the current generation
+     */
+    @Override
+    public KeyFilter getKeyFilter() {
+        return _generation;
+    }
+
+    /**
+     * load the current generation, publish it, and raise a change event for the keys changed
+     * <p>
+     * nothing done if the generation is not swapped, for a symlink swapped directory
+     */
+    public synchronized void reload() {
+        Generation oldGeneration = _generation;
+        Generation generation;
+        try {
+            Path directory = resolveGeneration();
+            // a symlink swapped generation is never changed in place
+            boolean swapped = directory != null && directory != getConfig().getPath();
+            if (swapped && directory.equals(oldGeneration.getPath()))
+                return;
+
+            generation = load(directory);
+        } catch (Exception e) {
+            LOGGER.error("failed to load directory, keep the current properties. source: " + this, e);
+            return;
+        }
+
+        Map<String, Entry> oldEntries = oldGeneration.getEntries();
+        Map<String, Entry> entries = generation.getEntries();
+        Set<Object> changedKeys = new HashSet<>();
+        entries.forEach((k, entry) -> {
+            Entry oldEntry = oldEntries.get(k);
+            if (oldEntry == null)
+                changedKeys.add(k);
+            else if (oldEntry.isLoaded() && !Objects.equals(oldEntry.getValue(), entry.getValue()))
+                changedKeys.add(k);
+        });
+        oldEntries.keySet().forEach(k -> {
+            if (!entries.containsKey(k))
+                changedKeys.add(k);
+        });
+
+        _generation = generation;
+        raiseChangeEvent(changedKeys);
+    }
+
+    /**
+     * the real path "..data" links to, or the directory itself if no "..data", null if the directory not exists
+     */
+    protected Path resolveGeneration() throws IOException {
+        Path directory = getConfig().getPath();
+        if (!Files.isDirectory(directory)) {
+            LOGGER.warn("directory not exists: {}", directory);
+            return null;
+        }
+
+        Path data = directory.resolve(DATA_LINK);
+        if (Files.exists(data))
+            return data.toRealPath();
+
+        return directory;
+    }
+
+    protected Generation load(Path directory) throws IOException {
+        if (directory == null)
+            return new Generation(null, Collections.emptyMap());
+
+        Map<String, Entry> entries = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String key = file.getFileName().toString();
+                if (key.startsWith(".") || !Files.isRegularFile(file))
+                    continue;
+
+                entries.put(key, new Entry(file));
+            }
+        }
+
+        return new Generation(directory, Collections.unmodifiableMap(entries));
+    }
+
+    protected String read(Path file) {
+        try {
+            return new String(Files.readAllBytes(file), getConfig().getCharset());
+        } catch (IOException e) {
+            LOGGER.error("failed to read file: " + file, e);
+            return null;
+        }
+    }
+
+    protected void startWatcher() {
+        Path directory = getConfig().getPath();
+        try {
+            _watchService = directory.getFileSystem().newWatchService();
+            directory.register(_watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to watch directory: " + directory, e);
+        }
+
+        Thread watcher = new Thread(this::watch, "scf-directory-source-" + getConfig().getName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    protected void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = _watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                    changed = true;
+                else {
+                    // the generation directories and the temp links are hidden, only the "..data" swap matters
+                    String fileName = event.context().toString();
+                    if (fileName.equals(DATA_LINK) || !fileName.startsWith("."))
+                        changed = true;
+                }
+            }
+
+            if (changed) {
+                try {
+                    reload();
+                } catch (Exception e) {
+                    LOGGER.error("failed to reload directory, source: " + this, e);
+                }
+            }
+
+            if (!key.reset())
+                return;
+        }
+    }
+
+    /**
+     * stop watching the directory
+     */
+    @Override
+    public void close() throws IOException {
+        if (_watchService != null)
+            _watchService.close();
+    }
+
+    protected static class Generation implements KeyFilter {
+
+        private Path _path;
+        private Map<String, Entry> _entries;
+        private KeyTrie<Entry> _keyTrie;
+
+        public Generation(Path path, Map<String, Entry> entries) {
+            _path = path;
+            _entries = entries;
+            _keyTrie = new KeyTrie<>();
+            entries.forEach(_keyTrie::put);
+        }
+
+        public Path getPath() {
+            return _path;
+        }
+
+        public Map<String, Entry> getEntries() {
+            return _entries;
+        }
+
+        public KeyTrie<Entry> getKeyTrie() {
+            return _keyTrie;
+        }
+
+        @Override
+        public boolean mightContain(Object key) {
+            return _entries.containsKey(key);
+        }
+
+    }
+
+    protected class Entry {
+
+        private Path _file;
+        private volatile boolean _loaded;
+        private volatile String _value;
+
+        public Entry(Path file) {
+            _file = file;
+        }
+
+        public boolean isLoaded() {
+            return _loaded;
+        }
+
+        public String getValue() {
+            if (!_loaded) {
+                synchronized (this) {
+                    if (!_loaded) {
+                        _value = read(_file);
+                        _loaded = true;
+                    }
+                }
+            }
+
+            return _value;
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.mydotey.scf.source;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import org.mydotey.scf.ConfigurationSourceConfig;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface DirectoryConfigurationSourceConfig extends ConfigurationSourceConfig {
+
+    /**
+     * the directory with a file per key, file name for the key, file content for the value
+     * <p>
+     * non-null, the directory may not exist, no properties if not exist, but it must exist to be watched
+     */
+    Path getPath();
+
+    /**
+     * charset of the files
+     * <p>
+     * non-null, by default UTF-8
+     */
+    Charset getCharset();
+
+    /**
+     * whether to watch the directory, and reload it once changed
+     * <p>
+     * by default true
+     */
+    boolean isWatchEnabled();
+
+    public interface Builder extends AbstractBuilder<Builder, DirectoryConfigurationSourceConfig> {
+
+    }
+
+    public interface AbstractBuilder<B extends AbstractBuilder<B, C>, C extends DirectoryConfigurationSourceConfig>
+            extends ConfigurationSourceConfig.AbstractBuilder<B, C> {
+
+        /**
+         * required
+         * @see DirectoryConfigurationSourceConfig#getPath()
+         */
+        B setPath(Path path);
+
+        /**
+         * optional
+         * @see DirectoryConfigurationSourceConfig#getCharset()
+         */
+        B setCharset(Charset charset);
+
+        /**
+         * optional
+         * @see DirectoryConfigurationSourceConfig#isWatchEnabled()
+         */
+        B setWatchEnabled(boolean watchEnabled);
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package org.mydotey.scf.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mydotey.scf.AbstractConfigurationSource;
+import org.mydotey.scf.ConfigurationSourceConfig;
+import org.mydotey.scf.EnumerableConfigurationSource;
+import org.mydotey.scf.KeyFilter;
+import org.mydotey.scf.KeyFilteredConfigurationSource;
+import org.mydotey.scf.KeyTrie;
+
+/**
+ * environment variables and system properties source, with relaxed key binding
+ * <p>
+ * keys are normalized by lower case, and '_', '-' as '.', so that "DB_POOL_SIZE", "db-pool-size"
+ * and "db.pool.size" are the same key. the system properties take precedence over the environment variables,
+ * and if keys of the same origin normalized to the same one, the smallest key in natural order wins
+ * <p>
+ * the normalized index is built once in the constructor, and rebuilt by {@link #refresh()}.
+ * a key spelling found is remembered with its value, so that the next lookup of it is one hash lookup,
+ * the first one is a normalization and one more hash lookup. the spellings not found are not remembered
+ * <p>
+ * on refresh, a change event is raised with the remembered spellings of the changed keys,
+ * or for the whole source if a key is added, since the spellings looked up for it are not known
+ * <p>
+ * the keys enumerated are the normalized ones
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class EnvironmentConfigurationSource extends AbstractConfigurationSource<ConfigurationSourceConfig>
+        implements EnumerableConfigurationSource, KeyFilteredConfigurationSource {
+
+    private volatile Index _index;
+    private volatile KeyTrie<String> _keyTrie;
+
+    public EnvironmentConfigurationSource(ConfigurationSourceConfig config) {
+        super(config);
+
+        _index = new Index(buildIndex());
+        _keyTrie = buildKeyTrie(_index._values);
+    }
+
+    @Override
+    protected Object getPropertyValue(Object key) {
+        if (!(key instanceof String))
+            return null;
+
+        Index index = _index;
+        String value = index._spellings.get(key);
+        if (value != null)
+            return value;
+
+        value = index._values.get(normalize((String) key));
+        if (value != null)
+            index._spellings.put((String) key, value);
+        return value;
+    }
+
+    /**
+     * the normalized keys
+     */
+    @Override
+    public Set<String> getKeys(String prefix) {
+        return _keyTrie.getKeys(normalize(prefix));
+    }
+
+    /**
+     * the spellings found and the normalized keys of the current index
+     */
+    @Override
+    public KeyFilter getKeyFilter() {
+        return _index;
+    }
+
+    /**
+     * rebuild the index, raise a change event for the remembered spellings of the changed keys,
+     * or for the whole source if a key is added
+     */
+    public synchronized void refresh() {
+        Index oldIndex = _index;
+        Map<String, String> values = buildIndex();
+        Index index = new Index(values);
+
+        // the spellings of the removed keys are dropped
+        Set<Object> changedKeys = new HashSet<>();
+        oldIndex._spellings.forEach((k, v) -> {
+            String value = values.get(normalize(k));
+            if (!Objects.equals(v, value))
+                changedKeys.add(k);
+            if (value != null)
+                index._spellings.put(k, value);
+        });
+
+        boolean added = false;
+        for (String key : values.keySet()) {
+            if (!oldIndex._values.containsKey(key)) {
+                added = true;
+                break;
+            }
+        }
+
+        _index = index;
+        _keyTrie = buildKeyTrie(values);
+
+        if (added)
+            raiseChangeEvent();
+        else
+            raiseChangeEvent(changedKeys);
+    }
+
+    protected Map<String, String> buildIndex() {
+        Map<String, String> index = new HashMap<>();
+        // lower precedence first, overwritten by the higher
+        putAll(index, getEnvironmentVariables());
+        putAll(index, getSystemProperties());
+        return Collections.unmodifiableMap(index);
+    }
+
+    private KeyTrie<String> buildKeyTrie(Map<String, String> index) {
+        KeyTrie<String> keyTrie = new KeyTrie<>();
+        index.forEach(keyTrie::put);
+        return keyTrie;
+    }
+
+    private void putAll(Map<String, String> index, Map<String, String> properties) {
+        List<String> keys = new ArrayList<>(properties.keySet());
+        Collections.sort(keys, Collections.reverseOrder());
+
+        // reverse order, so that the smallest key is put last
+        for (String key : keys) {
+            String value = properties.get(key);
+            if (value != null)
+                index.put(normalize(key), value);
+        }
+    }
+
+    protected Map<String, String> getEnvironmentVariables() {
+        return System.getenv();
+    }
+
+    protected Map<String, String> getSystemProperties() {
+        Properties properties = System.getProperties();
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames())
+            values.put(key, properties.getProperty(key));
+        return values;
+    }
+
+    protected String normalize(String key) {
+        char[] chars = new char[key.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = key.charAt(i);
+            chars[i] = c == '_' || c == '-' ? '.' : Character.toLowerCase(c);
+        }
+        return new String(chars);
+    }
+
+    private class Index implements KeyFilter {
+
+        // normalized key -> value
+        private final Map<String, String> _values;
+        // key spelling found -> value
+        private final ConcurrentHashMap<String, String> _spellings = new ConcurrentHashMap<>();
+
+        private Index(Map<String, String> values) {
+            _values = values;
+        }
+
+        @Override
+        public boolean mightContain(Object key) {
+            return key instanceof String
+                && (_spellings.containsKey(key) || _values.containsKey(normalize((String) key)));
+        }
+
+    }
+
+}
@@ -0,0 +1,209 @@
+package org.mydotey.scf.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+import org.mydotey.scf.AbstractConfigurationSource;
+import org.mydotey.scf.EnumerableConfigurationSource;
+import org.mydotey.scf.KeyFilter;
+import org.mydotey.scf.KeyFilteredConfigurationSource;
+import org.mydotey.scf.KeyTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * properties file source
+ * <p>
+ * the file is decoded and parsed into an index in one pass once loaded, lookups hit the index only
+ * <p>
+ * once the file changed, it's parsed into a fresh index, which is diffed against the current one,
+ * and a change event with the changed keys only is raised
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class FileConfigurationSource extends AbstractConfigurationSource<FileConfigurationSourceConfig>
+        implements EnumerableConfigurationSource, KeyFilteredConfigurationSource, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileConfigurationSource.class);
+
+    private volatile Map<String, String> _properties;
+    private volatile KeyTrie<String> _keyTrie;
+    private volatile KeyFilter _keyFilter;
+
+    private WatchService _watchService;
+
+    public FileConfigurationSource(FileConfigurationSourceConfig config) {
+        super(config);
+
+        _properties = Collections.emptyMap();
+        _keyTrie = new KeyTrie<>();
+        _keyFilter = _properties::containsKey;
+        reload();
+
+        if (config.isWatchEnabled())
+            startWatcher();
+    }
+
+    @Override
+    protected Object getPropertyValue(Object key) {
+        return _properties.get(key);
+    }
+
+    @Override
+    protected Map<Object, Object> getPropertyValuesByKeys(Set<Object> keys) {
+        // one index for all the keys, so that the values are consistent
+        Map<String, String> properties = _properties;
+        Map<Object, Object> values = new HashMap<>();
+        keys.forEach(k -> {
+            String value = properties.get(k);
+            if (value != null)
+                values.put(k, value);
+        });
+        return values;
+    }
+
+    @Override
+    public Set<String> getKeys(String prefix) {
+        return _keyTrie.getKeys(prefix);
+    }
+
+    /**
+     * the keys of the current index
+     */
+    @Override
+    public KeyFilter getKeyFilter() {
+        return _keyFilter;
+    }
+
+    /**
+     * parse the file into a fresh index, raise a change event for the keys changed
+     * <p>
+     * the current index is kept if the file is missing, failed to read or parse, or changed while read,
+     * so that a file being replaced does not remove the keys
+     */
+    public synchronized void reload() {
+        Map<String, String> properties;
+        try {
+            properties = load();
+        } catch (NoSuchFileException e) {
+            LOGGER.warn("properties file not exists, keep the current properties: {}", getConfig().getPath());
+            return;
+        } catch (Exception e) {
+            LOGGER.error("failed to load properties file, keep the current properties. source: " + this, e);
+            return;
+        }
+
+        KeyTrie<String> keyTrie = new KeyTrie<>();
+        properties.forEach(keyTrie::put);
+
+        Map<String, String> oldProperties = _properties;
+        _properties = properties;
+        _keyTrie = keyTrie;
+        _keyFilter = properties::containsKey;
+
+        Set<Object> changedKeys = new HashSet<>();
+        properties.forEach((k, v) -> {
+            if (!Objects.equals(v, oldProperties.get(k)))
+                changedKeys.add(k);
+        });
+        oldProperties.keySet().forEach(k -> {
+            if (!properties.containsKey(k))
+                changedKeys.add(k);
+        });
+
+        raiseChangeEvent(changedKeys);
+    }
+
+    /**
+     * the malformed bytes for the charset fail the load, instead of being replaced
+     */
+    protected Map<String, String> load() throws IOException {
+        Path path = getConfig().getPath();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(new InputStreamReader(in, getConfig().getCharset().newDecoder()));
+        }
+
+        BasicFileAttributes current = Files.readAttributes(path, BasicFileAttributes.class);
+        if (current.size() != attributes.size() || !current.lastModifiedTime().equals(attributes.lastModifiedTime()))
+            throw new IOException("properties file changed while loading: " + path);
+
+        Map<String, String> index = new HashMap<>(properties.size() * 4 / 3 + 1);
+        properties.stringPropertyNames().forEach(k -> index.put(k, properties.getProperty(k)));
+        return Collections.unmodifiableMap(index);
+    }
+
+    protected void startWatcher() {
+        Path path = getConfig().getPath();
+        try {
+            _watchService = path.getFileSystem().newWatchService();
+            path.getParent().register(_watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to watch properties file: " + path, e);
+        }
+
+        Thread watcher = new Thread(this::watch, "scf-file-source-" + getConfig().getName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    protected void watch() {
+        Path fileName = getConfig().getPath().getFileName();
+        while (true) {
+            WatchKey key;
+            try {
+                key = _watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context()))
+                    changed = true;
+            }
+
+            if (changed) {
+                try {
+                    reload();
+                } catch (Exception e) {
+                    LOGGER.error("failed to reload properties file, source: " + this, e);
+                }
+            }
+
+            if (!key.reset())
+                return;
+        }
+    }
+
+    /**
+     * stop watching the file
+     */
+    @Override
+    public void close() throws IOException {
+        if (_watchService != null)
+            _watchService.close();
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.mydotey.scf.source;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+import org.mydotey.scf.ConfigurationSourceConfig;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public interface FileConfigurationSourceConfig extends ConfigurationSourceConfig {
+
+    /**
+     * the properties file
+     * <p>
+     * non-null, the file may not exist, no properties if not exist
+     */
+    Path getPath();
+
+    /**
+     * charset of the properties file
+     * <p>
+     * non-null, by default UTF-8
+     */
+    Charset getCharset();
+
+    /**
+     * whether to watch the file, and reload it once changed
+     * <p>
+     * by default true
+     */
+    boolean isWatchEnabled();
+
+    public interface Builder extends AbstractBuilder<Builder, FileConfigurationSourceConfig> {
+
+    }
+
+    public interface AbstractBuilder<B extends AbstractBuilder<B, C>, C extends FileConfigurationSourceConfig>
+            extends ConfigurationSourceConfig.AbstractBuilder<B, C> {
+
+        /**
+         * required
+         * @see FileConfigurationSourceConfig#getPath()
+         */
+        B setPath(Path path);
+
+        /**
+         * optional
+         * @see FileConfigurationSourceConfig#getCharset()
+         */
+        B setCharset(Charset charset);
+
+        /**
+         * optional
+         * @see FileConfigurationSourceConfig#isWatchEnabled()
+         */
+        B setWatchEnabled(boolean watchEnabled);
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.mydotey.scf.threading;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * task executor with serial lanes on a shared thread pool
+ * <p>
+ * the tasks with the same key are hashed to the same lane, and run one by one in submission order,
+ * the tasks of different lanes run in parallel
+ * <p>
+ * the configuration manager submits the property change events with the property key,
+ * so that the events of a property are delivered in order, when it's used as the task executor
+ * @see org.mydotey.scf.ConfigurationManagerConfig#getTaskExecutor()
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class StripedTaskExecutor implements Consumer<Runnable>, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StripedTaskExecutor.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private ExecutorService _executorService;
+    private Lane[] _lanes;
+    private AtomicInteger _nextLane;
+
+    /**
+     * lanes run in a daemon thread pool with laneCount threads
+     */
+    public StripedTaskExecutor(int laneCount) {
+        this(laneCount, Executors.newFixedThreadPool(requirePositive(laneCount), r -> {
+            Thread thread = new Thread(r, "scf-striped-executor-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * lanes run in the executorService, which will be shutdown when the executor closed
+     */
+    public StripedTaskExecutor(int laneCount, ExecutorService executorService) {
+        requirePositive(laneCount);
+        Objects.requireNonNull(executorService, "executorService is null");
+
+        _executorService = executorService;
+        _lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++)
+            _lanes[i] = new Lane();
+        _nextLane = new AtomicInteger();
+    }
+
+    private static int requirePositive(int laneCount) {
+        if (laneCount <= 0)
+            throw new IllegalArgumentException("laneCount is not positive: " + laneCount);
+        return laneCount;
+    }
+
+    public int getLaneCount() {
+        return _lanes.length;
+    }
+
+    /**
+     * the task without a key is run in the lanes by turns, no order guaranteed
+     */
+    @Override
+    public void accept(Runnable task) {
+        Objects.requireNonNull(task, "task is null");
+        _lanes[Math.floorMod(_nextLane.getAndIncrement(), _lanes.length)].submit(task);
+    }
+
+    /**
+     * the tasks with the same key run one by one in submission order
+     */
+    public void accept(Object key, Runnable task) {
+        Objects.requireNonNull(task, "task is null");
+        _lanes[getLane(key)].submit(task);
+    }
+
+    protected int getLane(Object key) {
+        int h = Objects.hashCode(key);
+        h ^= h >>> 16;
+        return Math.floorMod(h, _lanes.length);
+    }
+
+    @Override
+    public void close() {
+        _executorService.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { laneCount: %s, executorService: %s }", getClass().getSimpleName(),
+            _lanes.length, _executorService);
+    }
+
+    private class Lane implements Runnable {
+
+        // guarded by this
+        private Queue<Runnable> _tasks = new ArrayDeque<>();
+        private boolean _running;
+
+        public void submit(Runnable task) {
+            synchronized (this) {
+                _tasks.add(task);
+                if (_running)
+                    return;
+                _running = true;
+            }
+
+            try {
+                _executorService.execute(this);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    _tasks.clear();
+                    _running = false;
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task;
+                synchronized (this) {
+                    task = _tasks.poll();
+                    if (task == null) {
+                        _running = false;
+                        return;
+                    }
+                }
+
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    LOGGER.error("task failed to run", e);
+                }
+            }
+        }
+
+    }
+
+}
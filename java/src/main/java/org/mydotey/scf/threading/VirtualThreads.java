@@ -0,0 +1,46 @@
+package org.mydotey.scf.threading;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * virtual thread support, overlaid by the Java 21 version in the multi-release jar
+ * <p>
+ * this is the Java 8 fallback: no virtual threads, daemon platform threads are used instead
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+
+    }
+
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * threads named with the prefix and a sequence number
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * a new thread for each task
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        return Executors.newCachedThreadPool(newThreadFactory(prefix));
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.mydotey.scf.type;
+
+import java.util.Comparator;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * value comparators comparing the primitive values, 0 for equal, -1 for not equal
+ */
+public class PrimitiveComparators {
+
+    public static final Comparator<Integer> INT = (o1, o2) -> {
+        if (o1 == null || o2 == null)
+            return o1 == o2 ? 0 : -1;
+        return o1.intValue() == o2.intValue() ? 0 : -1;
+    };
+
+    public static final Comparator<Long> LONG = (o1, o2) -> {
+        if (o1 == null || o2 == null)
+            return o1 == o2 ? 0 : -1;
+        return o1.longValue() == o2.longValue() ? 0 : -1;
+    };
+
+    /**
+     * 0.0 and -0.0 are equal, NaN and NaN are equal
+     */
+    public static final Comparator<Double> DOUBLE = (o1, o2) -> {
+        if (o1 == null || o2 == null)
+            return o1 == o2 ? 0 : -1;
+        double d1 = o1.doubleValue();
+        double d2 = o2.doubleValue();
+        return d1 == d2 || (d1 != d1 && d2 != d2) ? 0 : -1;
+    };
+
+    public static final Comparator<Boolean> BOOLEAN = (o1, o2) -> {
+        if (o1 == null || o2 == null)
+            return o1 == o2 ? 0 : -1;
+        return o1.booleanValue() == o2.booleanValue() ? 0 : -1;
+    };
+
+    protected PrimitiveComparators() {
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.mydotey.scf.type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ * 
+ * dispatch table of the type converters for a target type,
+ * the applicable converters for a source value type are computed once and cached
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class TypeConverterTable<T> {
+
+    private static final TypeConverter[] EMPTY_CONVERTERS = new TypeConverter[0];
+
+    private Class<T> _targetType;
+    private Collection<TypeConverter> _converters;
+
+    private ConcurrentHashMap<Class<?>, Dispatch> _dispatches;
+
+    public TypeConverterTable(Class<T> targetType, Collection<TypeConverter> converters) {
+        Objects.requireNonNull(targetType, "targetType is null");
+
+        _targetType = targetType;
+        _converters = converters == null ? Collections.emptyList() : converters;
+        _dispatches = new ConcurrentHashMap<>();
+    }
+
+    public Class<T> getTargetType() {
+        return _targetType;
+    }
+
+    /**
+     * convert the value by the applicable converters in order, the first non-null result returned
+     * <p>
+     * if no converter can convert it, the value itself returned if it is of the target type
+     * <p>
+     * otherwise, null returned
+     */
+    public T convert(Object value) {
+        if (value == null)
+            return null;
+
+        Dispatch dispatch = _dispatches.get(value.getClass());
+        if (dispatch == null)
+            dispatch = _dispatches.computeIfAbsent(value.getClass(), this::newDispatch);
+
+        for (TypeConverter typeConverter : dispatch.converters) {
+            T t = (T) typeConverter.convert(value);
+            if (t != null)
+                return t;
+        }
+
+        return dispatch.assignable ? (T) value : null;
+    }
+
+    protected Dispatch newDispatch(Class<?> sourceType) {
+        List<TypeConverter> converters = new ArrayList<>();
+        for (TypeConverter typeConverter : _converters) {
+            if (typeConverter.getSourceType().isAssignableFrom(sourceType)
+                && _targetType.isAssignableFrom(typeConverter.getTargetType()))
+                converters.add(typeConverter);
+        }
+
+        return new Dispatch(converters.isEmpty() ? EMPTY_CONVERTERS : converters.toArray(EMPTY_CONVERTERS),
+            _targetType.isAssignableFrom(sourceType));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s { targetType: %s, converters: %s }", getClass().getSimpleName(), _targetType,
+            _converters);
+    }
+
+    protected static class Dispatch {
+
+        private TypeConverter[] converters;
+        private boolean assignable;
+
+        public Dispatch(TypeConverter[] converters, boolean assignable) {
+            this.converters = converters;
+            this.assignable = assignable;
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.mydotey.scf.threading;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * virtual thread support, the Java 21 overlay in the multi-release jar
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+
+    }
+
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * virtual threads named with the prefix and a sequence number
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        return Thread.ofVirtual().name(prefix, 0).factory();
+    }
+
+    /**
+     * a new virtual thread for each task
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        return Executors.newThreadPerTaskExecutor(newThreadFactory(prefix));
+    }
+
+}
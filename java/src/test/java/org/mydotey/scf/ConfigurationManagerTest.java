@@ -1,18 +1,30 @@
 package org.mydotey.scf;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.mydotey.scf.facade.ConfigurationManagers;
 import org.mydotey.scf.facade.ConfigurationProperties;
 import org.mydotey.scf.facade.ConfigurationSources;
+import org.mydotey.scf.metrics.DefaultConfigurationMetrics;
+import org.mydotey.scf.threading.StripedTaskExecutor;
+import org.mydotey.scf.threading.VirtualThreads;
 import org.mydotey.scf.type.AbstractTypeConverter;
 import org.mydotey.scf.type.TypeConverter;
 
@@ -563,4 +575,781 @@ public class ConfigurationManagerTest {
         dynamicSource.setPropertyValue(key, null);
         Assert.assertEquals(null, property.getSource());
     }
+
+    @Test
+    public void testKeyScopedSourceChange() {
+        Map<Object, AtomicInteger> lookupCounts = new ConcurrentHashMap<>();
+        TestDynamicConfigurationSource source = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("test-source"), new HashMap<>()) {
+            @Override
+            protected Object getPropertyValue(Object key) {
+                lookupCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                return super.getPropertyValue(key);
+            }
+        };
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        Property<String, String> property2 = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-2").setValueType(String.class).build());
+        Assert.assertEquals(1, lookupCounts.get("key-1").get());
+        Assert.assertEquals(1, lookupCounts.get("key-2").get());
+
+        source.setPropertyValueKeyed("key-1", "v1");
+        Assert.assertEquals("v1", property.getValue());
+        Assert.assertNull(property2.getValue());
+        Assert.assertEquals(2, lookupCounts.get("key-1").get());
+        Assert.assertEquals(1, lookupCounts.get("key-2").get());
+
+        source._properties.put("key-2", "v2");
+        source.raiseChangeEvent();
+        Assert.assertEquals("v1", property.getValue());
+        Assert.assertEquals("v2", property2.getValue());
+        Assert.assertEquals(3, lookupCounts.get("key-1").get());
+        Assert.assertEquals(2, lookupCounts.get("key-2").get());
+    }
+
+    @Test
+    public void testShadowedPropertyNotRecomputed() {
+        AtomicInteger highLookupCount = new AtomicInteger();
+        TestDynamicConfigurationSource highSource = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("high-source"), new HashMap<>(ImmutableMap.of("key-1", "high"))) {
+            @Override
+            protected Object getPropertyValue(Object key) {
+                highLookupCount.incrementAndGet();
+                return super.getPropertyValue(key);
+            }
+        };
+        TestDynamicConfigurationSource lowSource = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("low-source"), new HashMap<>(ImmutableMap.of("key-1", "low")));
+        ConfigurationManager manager = createManager(ImmutableMap.of(2, highSource, 1, lowSource));
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        Property<String, String> property2 = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-2").setValueType(String.class).build());
+        Assert.assertEquals("high", property.getValue());
+        Assert.assertEquals(highSource, property.getSource());
+        Assert.assertEquals(2, highLookupCount.get());
+
+        lowSource.setPropertyValueKeyed("key-1", "low-2");
+        Assert.assertEquals("high", property.getValue());
+        Assert.assertEquals(2, highLookupCount.get());
+
+        lowSource._properties.put("key-2", "low");
+        lowSource.raiseChangeEvent();
+        Assert.assertEquals("high", property.getValue());
+        Assert.assertEquals("low", property2.getValue());
+        Assert.assertEquals(3, highLookupCount.get());
+
+        highSource.setPropertyValueKeyed("key-1", null);
+        Assert.assertEquals("low-2", property.getValue());
+        Assert.assertEquals(lowSource, property.getSource());
+
+        lowSource.setPropertyValueKeyed("key-1", "low-3");
+        Assert.assertEquals("low-3", property.getValue());
+    }
+
+    @Test
+    public void testEqualConfigsAreCanonical() {
+        TypeConverter<String, Integer> typeConverter = newTypeConverter();
+        PropertyConfig<String, Integer> propertyConfig = ConfigurationProperties.<String, Integer>newConfigBuilder()
+            .setKey("exist_int").setValueType(Integer.class).addValueConverter(typeConverter).build();
+        PropertyConfig<String, Integer> propertyConfig2 = ConfigurationProperties.<String, Integer>newConfigBuilder()
+            .setKey("exist_int").setValueType(Integer.class).addValueConverter(typeConverter).build();
+        Assert.assertTrue(propertyConfig == propertyConfig2);
+
+        PropertyConfig<String, Integer> propertyConfig3 = ConfigurationProperties.<String, Integer>newConfigBuilder()
+            .setKey("exist_int").setValueType(Integer.class).addValueConverter(typeConverter).setDefaultValue(1)
+            .build();
+        Assert.assertFalse(propertyConfig == propertyConfig3);
+        Assert.assertNotEquals(propertyConfig, propertyConfig3);
+    }
+
+    @Test
+    public void testPrimitiveProperty() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        PropertyConfig<String, Integer> propertyConfig = ConfigurationProperties.<String> newIntConfigBuilder()
+            .setKey("int-key").addValueConverter(newTypeConverter()).build();
+        IntProperty<String> property = manager.getIntProperty(propertyConfig);
+        Assert.assertEquals(0, property.getInt());
+        Assert.assertNull(property.getValue());
+        Assert.assertTrue(property == manager.getProperty(propertyConfig));
+
+        source.setPropertyValue("int-key", "1000");
+        Assert.assertEquals(1000, property.getInt());
+        Assert.assertEquals(Integer.valueOf(1000), property.getValue());
+
+        PropertyConfig<String, Boolean> propertyConfig2 = ConfigurationProperties.<String> newBooleanConfigBuilder()
+            .setKey("boolean-key").setDefaultValue(true).build();
+        BooleanProperty<String> property2 = manager.getBooleanProperty(propertyConfig2);
+        Assert.assertTrue(property2.getBoolean());
+    }
+
+    @Test
+    public void testConvertedValueReused() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        AtomicInteger convertCount = new AtomicInteger();
+        TypeConverter<String, Integer> typeConverter = new AbstractTypeConverter<String, Integer>(String.class,
+            Integer.class) {
+            @Override
+            public Integer convert(String source) {
+                convertCount.incrementAndGet();
+                return Integer.valueOf(source);
+            }
+        };
+        PropertyConfig<String, Integer> propertyConfig = ConfigurationProperties.<String, Integer>newConfigBuilder()
+            .setKey("int-key").setValueType(Integer.class).addValueConverter(typeConverter).build();
+        source.setPropertyValue("int-key", "1");
+        Assert.assertEquals(Integer.valueOf(1), manager.getPropertyValue(propertyConfig));
+        Assert.assertEquals(Integer.valueOf(1), manager.getPropertyValue(propertyConfig));
+        Assert.assertEquals(1, convertCount.get());
+
+        source.setPropertyValue("int-key", "2");
+        Assert.assertEquals(Integer.valueOf(2), manager.getPropertyValue(propertyConfig));
+        Assert.assertEquals(2, convertCount.get());
+
+        // cached for each config of the key
+        PropertyConfig<String, Integer> propertyConfig2 = ConfigurationProperties.<String, Integer>newConfigBuilder()
+            .setKey("int-key").setValueType(Integer.class).addValueConverter(typeConverter).setDefaultValue(0)
+            .build();
+        Assert.assertEquals(Integer.valueOf(2), manager.getPropertyValue(propertyConfig2));
+        Assert.assertEquals(Integer.valueOf(2), manager.getPropertyValue(propertyConfig));
+        Assert.assertEquals(Integer.valueOf(2), manager.getPropertyValue(propertyConfig2));
+        Assert.assertEquals(3, convertCount.get());
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void testMutableConvertedValueNotReused() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        TypeConverter<String, List> typeConverter = new AbstractTypeConverter<String, List>(String.class,
+            List.class) {
+            @Override
+            public List convert(String source) {
+                return new ArrayList<>(Arrays.asList(source.split(",")));
+            }
+        };
+        PropertyConfig<String, List> propertyConfig = ConfigurationProperties.<String, List>newConfigBuilder()
+            .setKey("list-key").setValueType(List.class).addValueConverter(typeConverter).build();
+        source.setPropertyValue("list-key", "a,b");
+
+        // a caller changing its value does not change the others
+        List value = manager.getPropertyValue(propertyConfig);
+        value.clear();
+        Assert.assertEquals(Arrays.asList("a", "b"), manager.getPropertyValue(propertyConfig));
+        Assert.assertNotSame(manager.getPropertyValue(propertyConfig), manager.getPropertyValue(propertyConfig));
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void testBulkGetPropertyValues() {
+        List<Set<Object>> lowSourceBatches = new ArrayList<>();
+        TestConfigurationSource highSource = new TestConfigurationSource(
+            ConfigurationSources.newConfig("high-source"), new HashMap<>(ImmutableMap.of("key-1", "high")));
+        TestConfigurationSource lowSource = new TestConfigurationSource(ConfigurationSources.newConfig("low-source"),
+            new HashMap<>(ImmutableMap.of("key-1", "low", "key-2", "low"))) {
+            @Override
+            protected Map<Object, Object> getPropertyValuesByKeys(Set<Object> keys) {
+                lowSourceBatches.add(keys);
+                return super.getPropertyValuesByKeys(keys);
+            }
+        };
+        ConfigurationManager manager = createManager(ImmutableMap.of(2, highSource, 1, lowSource));
+
+        List<PropertyConfig> propertyConfigs = new ArrayList<>();
+        for (String key : new String[] { "key-1", "key-2", "key-3" })
+            propertyConfigs.add(ConfigurationProperties.<String, String>newConfigBuilder().setKey(key)
+                .setValueType(String.class).setDefaultValue("default").build());
+
+        Map<PropertyConfig, Object> values = manager.getPropertyValues(propertyConfigs);
+        Assert.assertEquals(Arrays.asList("high", "low", "default"), new ArrayList<>(values.values()));
+        Assert.assertEquals(1, lowSourceBatches.size());
+        Assert.assertEquals(ImmutableSet.of("key-2", "key-3"), lowSourceBatches.get(0));
+
+        Map<PropertyConfig, Property> properties = manager.getProperties(propertyConfigs);
+        Assert.assertEquals(2, lowSourceBatches.size());
+        Assert.assertEquals(3, properties.size());
+        for (PropertyConfig propertyConfig : propertyConfigs) {
+            Property property = properties.get(propertyConfig);
+            Assert.assertEquals(values.get(propertyConfig), property.getValue());
+            Assert.assertTrue(property == manager.getProperty(propertyConfig));
+        }
+        Assert.assertEquals(lowSource, properties.get(propertyConfigs.get(1)).getSource());
+        Assert.assertNull(properties.get(propertyConfigs.get(2)).getSource());
+
+        manager.getProperties(propertyConfigs);
+        Assert.assertEquals(2, lowSourceBatches.size());
+    }
+
+    @Test
+    public void testSnapshot() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        ConfigurationSnapshot snapshot = manager.snapshot();
+        Assert.assertEquals(0, snapshot.size());
+
+        PropertyConfig<String, String> propertyConfig = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("exist").setValueType(String.class).build();
+        PropertyConfig<String, String> propertyConfig2 = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("exist2").setValueType(String.class).build();
+        manager.getProperty(propertyConfig);
+        manager.getProperty(propertyConfig2);
+        ConfigurationSnapshot snapshot2 = manager.snapshot();
+        Assert.assertTrue(snapshot2.getVersion() > snapshot.getVersion());
+        Assert.assertEquals(2, snapshot2.size());
+        Assert.assertEquals("ok.2", snapshot2.getValue(propertyConfig));
+        Assert.assertEquals("ok2.2", snapshot2.getValue("exist2"));
+
+        AtomicReference<ConfigurationSnapshot> listenerSnapshot = new AtomicReference<>();
+        manager.addChangeListener(e -> listenerSnapshot.set(manager.snapshot()));
+        source.setPropertyValue("exist", "okx");
+        ConfigurationSnapshot snapshot3 = manager.snapshot();
+        Assert.assertTrue(snapshot3.getVersion() > snapshot2.getVersion());
+        Assert.assertEquals("okx", snapshot3.getValue(propertyConfig));
+        Assert.assertEquals("ok.2", snapshot2.getValue(propertyConfig));
+        Assert.assertTrue(snapshot3 == listenerSnapshot.get());
+
+        source.setPropertyValue("not-registered", "v");
+        Assert.assertTrue(snapshot3 == manager.snapshot());
+        Assert.assertFalse(snapshot3.containsKey("not-registered"));
+    }
+
+    @Test
+    public void testCoalesceSourceChanges() throws InterruptedException {
+        AtomicInteger lookupCount = new AtomicInteger();
+        TestDynamicConfigurationSource source = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("test-source"), new HashMap<>()) {
+            @Override
+            protected Object getPropertyValue(Object key) {
+                lookupCount.incrementAndGet();
+                return super.getPropertyValue(key);
+            }
+        };
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(1, source).setSourceChangeCoalescingWindow(1000).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        CountDownLatch changed = new CountDownLatch(1);
+        property.addChangeListener(e -> changed.countDown());
+        Assert.assertEquals(1, lookupCount.get());
+
+        for (int i = 0; i < 100; i++)
+            source.setPropertyValue("key-1", String.valueOf(i));
+        Assert.assertNull(property.getValue());
+
+        Assert.assertTrue(changed.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("99", property.getValue());
+        Assert.assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    public void testAsyncReconciliation() throws InterruptedException {
+        CountDownLatch reconciling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestDynamicConfigurationSource source = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("test-source"), new HashMap<>()) {
+            @Override
+            protected Object getPropertyValue(Object key) {
+                if ("key-1".equals(key) && Thread.currentThread().getName().startsWith("scf-reconciler-")) {
+                    reconciling.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.getPropertyValue(key);
+            }
+        };
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(1, source).setAsyncReconciliation(true).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        Assert.assertTrue(manager.awaitSourceChanges(0, TimeUnit.SECONDS));
+
+        source.setPropertyValue("key-1", "value-1");
+        Assert.assertTrue(reconciling.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(manager.awaitSourceChanges(10, TimeUnit.MILLISECONDS));
+
+        // property creation is not blocked by the reconciling
+        source.setPropertyValue("key-2", "value-2");
+        Property<String, String> property2 = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-2").setValueType(String.class).build());
+        Assert.assertEquals("value-2", property2.getValue());
+        Assert.assertNull(property.getValue());
+
+        release.countDown();
+        Assert.assertTrue(manager.awaitSourceChanges(5, TimeUnit.SECONDS));
+        Assert.assertEquals("value-1", property.getValue());
+        Assert.assertEquals("value-2", property2.getValue());
+        Assert.assertEquals("value-1", manager.snapshot().getValue("key-1"));
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test-close")
+            .addSource(1, source).setAsyncReconciliation(true).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        source.setPropertyValue("key-1", "value-1");
+        Assert.assertTrue(manager.awaitSourceChanges(5, TimeUnit.SECONDS));
+        Assert.assertEquals("value-1", property.getValue());
+        Assert.assertTrue(hasThread("scf-reconciler-test-close"));
+
+        manager.close();
+        manager.close();
+        for (int i = 0; i < 100 && hasThread("scf-reconciler-test-close"); i++)
+            Thread.sleep(10);
+        Assert.assertFalse(hasThread("scf-reconciler-test-close"));
+
+        source.setPropertyValue("key-1", "value-2");
+        Assert.assertTrue(manager.awaitSourceChanges(5, TimeUnit.SECONDS));
+        Assert.assertEquals("value-1", property.getValue());
+        Assert.assertEquals("value-2", manager.getPropertyValue(property.getConfig()));
+    }
+
+    @Test
+    public void testCloseWhileSourceChanging() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            TestDynamicConfigurationSource source = createDynamicSource();
+            ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder()
+                .setName("test-close-racing").addSource(1, source).setAsyncReconciliation(true).build();
+            ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+            manager.getProperty(ConfigurationProperties.<String, String>newConfigBuilder().setKey("key-1")
+                .setValueType(String.class).build());
+
+            CountDownLatch started = new CountDownLatch(1);
+            Thread changer = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < 1000; j++)
+                    source.setPropertyValue("key-1", "value-" + j);
+            });
+            changer.start();
+            started.await();
+            manager.close();
+            changer.join();
+
+            // the changes queued before closed are all applied
+            Assert.assertTrue(manager.awaitSourceChanges(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static boolean hasThread(String name) {
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().equals(name));
+    }
+
+    @Test
+    public void testRemoveAndWeakChangeListener() throws InterruptedException {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+
+        AtomicInteger strongCount = new AtomicInteger();
+        AtomicInteger weakCount = new AtomicInteger();
+        Consumer<PropertyChangeEvent<String, String>> strongListener = e -> strongCount.incrementAndGet();
+        Consumer<PropertyChangeEvent<String, String>> weakListener = e -> weakCount.incrementAndGet();
+        property.addChangeListener(strongListener);
+        property.addWeakChangeListener(weakListener);
+
+        source.setPropertyValue("key-1", "value-1");
+        Assert.assertEquals(1, strongCount.get());
+        Assert.assertEquals(1, weakCount.get());
+
+        Assert.assertTrue(property.removeChangeListener(strongListener));
+        Assert.assertFalse(property.removeChangeListener(strongListener));
+        source.setPropertyValue("key-1", "value-2");
+        Assert.assertEquals(1, strongCount.get());
+        Assert.assertEquals(2, weakCount.get());
+
+        // the weak listener is not kept alive by the property
+        WeakReference<Object> reference = new WeakReference<>(weakListener);
+        weakListener = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+        source.setPropertyValue("key-1", "value-3");
+        Assert.assertEquals(2, weakCount.get());
+    }
+
+    @Test
+    public void testStripedTaskExecutor() throws InterruptedException {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        try (StripedTaskExecutor taskExecutor = new StripedTaskExecutor(4)) {
+            ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+                .addSource(1, source).setTaskExecutor(taskExecutor).build();
+            ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+            Property<String, String> property = manager.getProperty(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+
+            int changeCount = 1000;
+            List<String> propertyEvents = new ArrayList<>();
+            List<String> managerEvents = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(changeCount);
+            property.addChangeListener(e -> propertyEvents.add(e.getNewValue()));
+            manager.addChangeListener(e -> {
+                managerEvents.add((String) e.getNewValue());
+                done.countDown();
+            });
+
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < changeCount; i++) {
+                expected.add(String.valueOf(i));
+                source.setPropertyValue("key-1", String.valueOf(i));
+            }
+
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(expected, propertyEvents);
+            Assert.assertEquals(expected, managerEvents);
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsEnabled() throws InterruptedException {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(1, source).setVirtualThreadsEnabled(true).setAsyncReconciliation(true).build();
+        Assert.assertEquals(VirtualThreads.isSupported(),
+            managerConfig.getTaskExecutor() instanceof StripedTaskExecutor);
+
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        CountDownLatch changed = new CountDownLatch(1);
+        property.addChangeListener(e -> changed.countDown());
+
+        source.setPropertyValue("key-1", "value-1");
+        Assert.assertTrue(manager.awaitSourceChanges(5, TimeUnit.SECONDS));
+        Assert.assertTrue(changed.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("value-1", property.getValue());
+    }
+
+    @Test
+    public void testPropertySubtree() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        PropertySubtree subtree = manager.getSubtree("db.shards");
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        subtree.addChangeListener(events::add);
+
+        Property<String, String> shard0 = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("db.shards.0.url").setValueType(String.class).build());
+        Property<String, String> other = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("db.shardsx").setValueType(String.class).build());
+        Assert.assertEquals(ImmutableSet.of("db.shards.0.url"), subtree.getProperties().keySet());
+        Assert.assertSame(shard0, subtree.getProperties().get("db.shards.0.url"));
+
+        Property<String, String> shard1 = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("db.shards.1.url").setValueType(String.class).build());
+        Assert.assertEquals(ImmutableSet.of("db.shards.0.url", "db.shards.1.url"),
+            manager.getPropertiesByPrefix("db.shards").keySet());
+
+        source.setPropertyValue("db.shards.1.url", "url-1");
+        source.setPropertyValue("db.shardsx", "x");
+        Assert.assertEquals(1, events.size());
+        Assert.assertSame(shard1, events.get(0).getProperty());
+        Assert.assertEquals("x", other.getValue());
+
+        Consumer<PropertyChangeEvent> listener = events::add;
+        Assert.assertFalse(manager.getSubtree("db").removeChangeListener(listener));
+        subtree.addChangeListener(listener);
+        Assert.assertTrue(subtree.removeChangeListener(listener));
+        Assert.assertFalse(subtree.removeChangeListener(listener));
+        source.setPropertyValue("db.shards.0.url", "url-0");
+        Assert.assertEquals(2, events.size());
+    }
+
+    @Test
+    public void testMetrics() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        TestConfigurationSource source2 = createSource();
+        DefaultConfigurationMetrics metrics = new DefaultConfigurationMetrics();
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(2, source).addSource(1, source2).setMetrics(metrics).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+
+        manager.getPropertyValue(ConfigurationProperties.<String, String>newConfigBuilder().setKey("exist_int")
+            .setValueType(String.class).build());
+        manager.getPropertyValue(ConfigurationProperties.<String, String>newConfigBuilder().setKey("exist")
+            .setValueType(String.class).setValueFilter(v -> v.equals("ok.2") ? null : v).build());
+        manager.getPropertyValue(ConfigurationProperties.<String, String>newConfigBuilder().setKey("exist2")
+            .setValueType(String.class).setValueFilter(v -> {
+                throw new IllegalStateException("filter failed");
+            }).build());
+        Assert.assertEquals(3, metrics.getLookups().getCount());
+        Assert.assertEquals(2, metrics.getSourceMetrics().get(2).getHits());
+        Assert.assertEquals(1, metrics.getSourceMetrics().get(2).getMisses());
+        Assert.assertEquals(1, metrics.getSourceMetrics().get(2).getFilterRejections());
+        Assert.assertEquals(1, metrics.getSourceMetrics().get(2).getFilterFailures());
+        Assert.assertEquals(2, metrics.getSourceMetrics().get(1).getHits());
+        Assert.assertEquals(0, metrics.getSourceMetrics().get(1).getMisses());
+
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("exist3").setValueType(String.class).build());
+        metrics.reset();
+        source.setPropertyValue("exist3", "changed");
+        Assert.assertEquals("changed", property.getValue());
+        Assert.assertEquals(1, metrics.getRecomputes().getCount());
+        Assert.assertEquals(1, metrics.getRecomputedProperties());
+        // the property listeners and the manager listeners
+        Assert.assertEquals(2, metrics.getDispatches().getCount());
+        System.out.println("metrics: " + metrics + "\n");
+    }
+
+    @Test
+    public void testKeyFilteredSource() {
+        AtomicInteger remoteLookupCount = new AtomicInteger();
+        class RemoteSource extends TestDynamicConfigurationSource implements KeyFilteredConfigurationSource {
+
+            private volatile KeyFilter _keyFilter;
+
+            public RemoteSource(HashMap<String, String> properties) {
+                super(ConfigurationSources.newConfig("remote-source"), properties);
+                _keyFilter = new BloomKeyFilter(_properties.keySet());
+            }
+
+            @Override
+            public KeyFilter getKeyFilter() {
+                return _keyFilter;
+            }
+
+            @Override
+            protected Object getPropertyValue(Object key) {
+                remoteLookupCount.incrementAndGet();
+                return super.getPropertyValue(key);
+            }
+
+            @Override
+            protected void raiseChangeEvent(ConfigurationSourceChangeEvent event) {
+                // publish the new filter before the event
+                _keyFilter = new BloomKeyFilter(_properties.keySet());
+                super.raiseChangeEvent(event);
+            }
+
+        }
+
+        RemoteSource remoteSource = new RemoteSource(new HashMap<>(ImmutableMap.of("remote", "remote")));
+        TestConfigurationSource localSource = createSource();
+        DefaultConfigurationMetrics metrics = new DefaultConfigurationMetrics();
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(2, remoteSource).addSource(1, localSource).setMetrics(metrics).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("exist").setValueType(String.class).build());
+        Assert.assertEquals("ok", property.getValue());
+        Assert.assertEquals("remote", manager.getPropertyValue(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("remote").setValueType(String.class).build()));
+        Map<PropertyConfig, Object> values = manager.getPropertyValues(Arrays.asList(
+            ConfigurationProperties.<String, String>newConfigBuilder().setKey("exist2").setValueType(String.class)
+                .build(),
+            ConfigurationProperties.<String, String>newConfigBuilder().setKey("exist3").setValueType(String.class)
+                .build()));
+        Assert.assertEquals(Arrays.asList("ok2", "ok3"), new ArrayList<>(values.values()));
+        Assert.assertEquals(1, remoteLookupCount.get());
+        Assert.assertEquals(3, metrics.getSourceMetrics().get(2).getSkips());
+        Assert.assertEquals(3, ((DefaultConfigurationManager) manager).getSourceSkipCount());
+
+        remoteSource.setPropertyValue("exist", "remote-exist");
+        Assert.assertEquals("remote-exist", property.getValue());
+        Assert.assertEquals(remoteSource, property.getSource());
+    }
+
+    @Test
+    public void testValueCache() {
+        AtomicInteger lookupCount = new AtomicInteger();
+        TestDynamicConfigurationSource highSource = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("high-source"), new HashMap<>(ImmutableMap.of("key-1", "high"))) {
+            @Override
+            protected Object getPropertyValue(Object key) {
+                lookupCount.incrementAndGet();
+                return super.getPropertyValue(key);
+            }
+        };
+        TestDynamicConfigurationSource lowSource = new TestDynamicConfigurationSource(
+            ConfigurationSources.newConfig("low-source"), new HashMap<>(ImmutableMap.of("key-2", "low")));
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(2, highSource).addSource(1, lowSource).setValueCacheSize(16).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        PropertyConfig<String, String> config1 = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-1").setValueType(String.class).build();
+        PropertyConfig<String, String> config2 = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-2").setValueType(String.class).build();
+
+        Assert.assertEquals("high", manager.getPropertyValue(config1));
+        Assert.assertEquals("low", manager.getPropertyValue(config2));
+        Assert.assertEquals(2, lookupCount.get());
+        Assert.assertEquals("high", manager.getPropertyValue(config1));
+        Assert.assertEquals("low", manager.getPropertyValue(config2));
+        Assert.assertEquals(2, lookupCount.get());
+
+        // shadowed by the higher priority source, not invalidated
+        lowSource.setPropertyValueKeyed("key-1", "low");
+        Assert.assertEquals("high", manager.getPropertyValue(config1));
+        Assert.assertEquals(2, lookupCount.get());
+
+        highSource.setPropertyValueKeyed("key-1", "high-2");
+        Assert.assertEquals("high-2", manager.getPropertyValue(config1));
+        Assert.assertEquals(3, lookupCount.get());
+        Assert.assertEquals("low", manager.getPropertyValue(config2));
+        Assert.assertEquals(3, lookupCount.get());
+
+        lowSource.setPropertyValueKeyed("key-2", "low-2");
+        Assert.assertEquals("low-2", manager.getPropertyValue(config2));
+        Assert.assertEquals(4, lookupCount.get());
+
+        highSource.raiseChangeEvent();
+        Assert.assertEquals("high-2", manager.getPropertyValue(config1));
+        Assert.assertEquals("low-2", manager.getPropertyValue(config2));
+        Assert.assertEquals(6, lookupCount.get());
+    }
+
+    @Test
+    public void testRemoveProperty() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        PropertyConfig<String, String> propertyConfig = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("db.key-1").setValueType(String.class).build();
+        Property<String, String> property = manager.getProperty(propertyConfig);
+        source.setPropertyValue("db.key-1", "value-1");
+        Assert.assertEquals("value-1", manager.snapshot().getValue("db.key-1"));
+
+        Assert.assertTrue(manager.removeProperty("db.key-1"));
+        Assert.assertFalse(manager.removeProperty("db.key-1"));
+        Assert.assertTrue(manager.getProperties().isEmpty());
+        Assert.assertTrue(manager.getPropertiesByPrefix("db").isEmpty());
+        Assert.assertFalse(manager.snapshot().containsKey("db.key-1"));
+
+        // not updated any more
+        source.setPropertyValue("db.key-1", "value-2");
+        Assert.assertEquals("value-1", property.getValue());
+
+        Property<String, String> property2 = manager.getProperty(propertyConfig);
+        Assert.assertNotSame(property, property2);
+        Assert.assertEquals("value-2", property2.getValue());
+    }
+
+    @Test
+    public void testWeakPropertyRegistry() throws InterruptedException {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder().setName("test")
+            .addSource(1, source).setWeakPropertyRegistry(true).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        PropertyConfig<String, String> propertyConfig = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-1").setValueType(String.class).build();
+        PropertyConfig<String, String> propertyConfig2 = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-2").setValueType(String.class).build();
+
+        Property<String, String> property = manager.getProperty(propertyConfig);
+        Assert.assertSame(property, manager.getProperty(propertyConfig));
+        AtomicInteger changeCount = new AtomicInteger();
+        Property<String, String> property2 = manager.getProperty(propertyConfig2);
+        property2.addChangeListener(e -> changeCount.incrementAndGet());
+        Assert.assertEquals(2, manager.getProperties().size());
+
+        // the property without listeners is dropped once not referenced, the one with listeners is kept
+        WeakReference<Object> reference = new WeakReference<>(property);
+        WeakReference<Object> reference2 = new WeakReference<>(property2);
+        property = null;
+        property2 = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+        Assert.assertNotNull(reference2.get());
+
+        source.setPropertyValue("key-2", "value-2");
+        Assert.assertEquals(1, changeCount.get());
+        Assert.assertEquals(1, manager.getProperties().size());
+        Assert.assertFalse(manager.snapshot().containsKey("key-1"));
+        Assert.assertEquals("value-2", manager.snapshot().getValue("key-2"));
+
+        source.setPropertyValue("key-1", "value-1");
+        Assert.assertEquals("value-1", manager.getProperty(propertyConfig).getValue());
+    }
+
+    @Test
+    public void testFreeze() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        source.setPropertyValue("db.key-1", "value-1");
+        source.setPropertyValue("key-2", "2");
+        ConfigurationManager manager = createManager(ImmutableMap.of(1, source));
+        PropertyConfig<String, String> propertyConfig = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("db.key-1").setValueType(String.class).build();
+        PropertyConfig<String, Integer> propertyConfig2 = ConfigurationProperties.<String> newIntConfigBuilder()
+            .setKey("key-2").addValueConverter(newTypeConverter()).build();
+        manager.getProperty(propertyConfig);
+        manager.getIntProperty(propertyConfig2);
+
+        ConfigurationManager frozen = ConfigurationManagers.freeze(manager);
+        Property<String, String> property = frozen.getProperty(propertyConfig);
+        Assert.assertSame(property, frozen.getProperty(propertyConfig));
+        Assert.assertEquals("value-1", property.getValue());
+        Assert.assertEquals(2, frozen.getIntProperty(propertyConfig2).getInt());
+        Assert.assertEquals(2, frozen.getProperties().size());
+        Assert.assertEquals(ImmutableSet.of("db.key-1"), frozen.getPropertiesByPrefix("db").keySet());
+        Assert.assertEquals("value-1", frozen.snapshot().getValue("db.key-1"));
+
+        // the frozen values never change, the manager frozen from is closed
+        List<PropertyChangeEvent<String, String>> events = new ArrayList<>();
+        property.addChangeListener(events::add);
+        source.setPropertyValue("db.key-1", "value-2");
+        Assert.assertEquals("value-1", property.getValue());
+        Assert.assertEquals("value-1", frozen.getPropertyValue(propertyConfig));
+        Assert.assertEquals("value-1", manager.getProperty(propertyConfig).getValue());
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertFalse(property.removeChangeListener(events::add));
+
+        // the sources are not read for the keys not frozen
+        PropertyConfig<String, String> propertyConfig3 = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-3").setValueType(String.class).build();
+        source.setPropertyValue("key-3", "value-3");
+        try {
+            frozen.getPropertyValue(propertyConfig3);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+        }
+        try {
+            frozen.getProperty(propertyConfig3);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+        }
+        Assert.assertFalse(frozen.removeProperty("db.key-1"));
+        Assert.assertSame(property, frozen.getProperty(propertyConfig));
+    }
+
+    @Test
+    public void testFreezeQueuedSourceChanges() {
+        TestDynamicConfigurationSource source = createDynamicSource();
+        source.setPropertyValue("key-1", "value-1");
+        source.setPropertyValue("key-2", "value-1");
+        ConfigurationManagerConfig managerConfig = ConfigurationManagers.newConfigBuilder()
+            .setName("test-freeze-queued").addSource(1, source).setSourceChangeCoalescingWindow(200).build();
+        ConfigurationManager manager = ConfigurationManagers.newManager(managerConfig);
+        PropertyConfig<String, String> propertyConfig = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-1").setValueType(String.class).build();
+        PropertyConfig<String, String> propertyConfig2 = ConfigurationProperties.<String, String>newConfigBuilder()
+            .setKey("key-2").setValueType(String.class).build();
+        manager.getProperty(propertyConfig);
+        manager.getProperty(propertyConfig2);
+
+        // still queued in the coalescing window when frozen, applied together before frozen
+        source.setPropertyValue("key-1", "value-2");
+        source.setPropertyValue("key-2", "value-2");
+        ConfigurationManager frozen = ConfigurationManagers.freeze(manager);
+        Assert.assertEquals("value-2", frozen.getProperty(propertyConfig).getValue());
+        Assert.assertEquals("value-2", frozen.getProperty(propertyConfig2).getValue());
+        Assert.assertEquals("value-2", frozen.snapshot().getValue("key-1"));
+    }
+
 }
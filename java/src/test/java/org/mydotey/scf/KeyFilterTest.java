@@ -0,0 +1,54 @@
+package org.mydotey.scf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class KeyFilterTest {
+
+    @Test
+    public void testExactKeyFilter() {
+        ExactKeyFilter keyFilter = new ExactKeyFilter(ImmutableSet.of("key-1", "key-2"));
+        Assert.assertTrue(keyFilter.mightContain("key-1"));
+        Assert.assertTrue(keyFilter.mightContain("key-2"));
+        Assert.assertFalse(keyFilter.mightContain("key-3"));
+        Assert.assertFalse(keyFilter.mightContain(null));
+    }
+
+    @Test
+    public void testBloomKeyFilter() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10000; i++)
+            keys.add("app.module-" + i + ".key");
+        BloomKeyFilter keyFilter = new BloomKeyFilter(keys, 0.01);
+        System.out.println("key filter: " + keyFilter + "\n");
+
+        // no false negative
+        keys.forEach(k -> Assert.assertTrue(keyFilter.mightContain(k)));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (keyFilter.mightContain("other.module-" + i + ".key"))
+                falsePositives++;
+        }
+        Assert.assertTrue("false positives: " + falsePositives, falsePositives < 300);
+
+        BloomKeyFilter emptyKeyFilter = new BloomKeyFilter(new ArrayList<>());
+        Assert.assertFalse(emptyKeyFilter.mightContain("key-1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFalsePositiveRate() {
+        new BloomKeyFilter(new ArrayList<>(), 1);
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.mydotey.scf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class KeyTrieTest {
+
+    @Test
+    public void testPrefix() {
+        KeyTrie<String> trie = new KeyTrie<>();
+        for (String key : new String[] { "db", "db.shards", "db.shards.0.url", "db.shards.1.url", "db.shardsx",
+            "cache.size" })
+            trie.put(key, key + "-value");
+
+        Assert.assertEquals("db.shards.0.url-value", trie.get("db.shards.0.url"));
+        Assert.assertNull(trie.get("db.shards.0"));
+        Assert.assertEquals(ImmutableSet.of("db.shards", "db.shards.0.url", "db.shards.1.url"),
+            trie.getKeys("db.shards"));
+        Assert.assertEquals(ImmutableSet.of("db.shards.0.url"), trie.getKeys("db.shards.0"));
+        Assert.assertEquals(6, trie.getKeys("").size());
+        Assert.assertTrue(trie.getKeys("db.shard").isEmpty());
+
+        Assert.assertEquals("db.shards-value", trie.remove("db.shards"));
+        Assert.assertEquals(ImmutableSet.of("db.shards.0.url", "db.shards.1.url"), trie.getKeys("db.shards"));
+
+        // the emptied nodes are pruned, and created again when needed
+        Assert.assertEquals("db.shards.0.url-value", trie.remove("db.shards.0.url"));
+        Assert.assertEquals("db.shards.1.url-value", trie.remove("db.shards.1.url"));
+        Assert.assertNull(trie.remove("db.shards.1.url"));
+        Assert.assertTrue(trie.getKeys("db.shards").isEmpty());
+        Assert.assertEquals(ImmutableSet.of("db", "db.shardsx"), trie.getKeys("db"));
+        trie.put("db.shards.0.url", "db.shards.0.url-value-2");
+        Assert.assertEquals("db.shards.0.url-value-2", trie.get("db.shards.0.url"));
+
+        for (String key : trie.getKeys(""))
+            trie.remove(key);
+        Assert.assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void testForEachAncestor() {
+        KeyTrie<String> trie = new KeyTrie<>();
+        trie.put("", "root");
+        trie.put("db", "db");
+        trie.put("db.shards", "db.shards");
+        trie.put("db.shards.0.url", "db.shards.0.url");
+
+        List<String> ancestors = new ArrayList<>();
+        trie.forEachAncestor("db.shards.0.url", ancestors::add);
+        Assert.assertEquals(ImmutableSet.of("root", "db", "db.shards", "db.shards.0.url"),
+            ImmutableSet.copyOf(ancestors));
+        Assert.assertEquals("root", ancestors.get(0));
+
+        ancestors.clear();
+        trie.forEachAncestor("db.shardsx", ancestors::add);
+        Assert.assertEquals(ImmutableSet.of("root", "db"), ImmutableSet.copyOf(ancestors));
+    }
+
+}
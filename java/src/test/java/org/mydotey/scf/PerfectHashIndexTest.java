@@ -0,0 +1,48 @@
+package org.mydotey.scf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class PerfectHashIndexTest {
+
+    @Test
+    public void testGet() {
+        for (int size : new int[] { 0, 1, 2, 3, 10, 1000, 100000 }) {
+            Map<Object, Object> entries = new HashMap<>();
+            for (int i = 0; i < size; i++)
+                entries.put("key-" + i, i);
+
+            PerfectHashIndex<Object> index = new PerfectHashIndex<>(entries);
+            Assert.assertEquals(size, index.size());
+            entries.forEach((k, v) -> Assert.assertEquals(v, index.get(k)));
+            Assert.assertNull(index.get("key-" + size));
+            Assert.assertNull(index.get(1));
+        }
+    }
+
+    @Test
+    public void testSameHashCode() {
+        // "Aa" and "BB" have the same hash code
+        Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Map<Object, Object> entries = new HashMap<>();
+        entries.put("Aa", 1);
+        entries.put("BB", 2);
+        entries.put("CC", 3);
+
+        PerfectHashIndex<Object> index = new PerfectHashIndex<>(entries);
+        Assert.assertEquals(3, index.size());
+        Assert.assertEquals(1, index.get("Aa"));
+        Assert.assertEquals(2, index.get("BB"));
+        Assert.assertEquals(3, index.get("CC"));
+        Assert.assertNull(index.get("C#"));
+    }
+
+}
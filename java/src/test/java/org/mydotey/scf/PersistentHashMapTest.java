@@ -0,0 +1,82 @@
+package org.mydotey.scf;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class PersistentHashMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        Random random = new Random(1);
+        Map<Object, Object> expected = new HashMap<>();
+        PersistentHashMap<Object, Object> map = PersistentHashMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            Object key = random.nextBoolean() ? new CollidingKey(random.nextInt(2000))
+                : Integer.valueOf(random.nextInt(2000));
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                Object value = random.nextInt(10) == 0 ? null : i;
+                expected.put(key, value);
+                map = map.put(key, value);
+            }
+        }
+
+        Assert.assertEquals(expected.size(), map.size());
+        for (Map.Entry<Object, Object> entry : expected.entrySet()) {
+            Assert.assertTrue(map.containsKey(entry.getKey()));
+            Assert.assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+
+        Map<Object, Object> actual = new HashMap<>();
+        map.forEach(actual::put);
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testOldVersionUnchanged() {
+        PersistentHashMap<Object, Object> map = PersistentHashMap.<Object, Object> empty().put("k1", "v1");
+        PersistentHashMap<Object, Object> map2 = map.put("k1", "v2").put("k2", "v2");
+        PersistentHashMap<Object, Object> map3 = map2.remove("k1");
+
+        Assert.assertEquals(1, map.size());
+        Assert.assertEquals("v1", map.get("k1"));
+        Assert.assertFalse(map.containsKey("k2"));
+        Assert.assertEquals(2, map2.size());
+        Assert.assertEquals("v2", map2.get("k1"));
+        Assert.assertEquals(1, map3.size());
+        Assert.assertFalse(map3.containsKey("k1"));
+        Assert.assertTrue(map3 == map3.remove("k1"));
+    }
+
+    private static class CollidingKey {
+
+        private int _id;
+
+        public CollidingKey(int id) {
+            _id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return _id % 7;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CollidingKey && ((CollidingKey) obj)._id == _id;
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.mydotey.scf;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,17 +21,32 @@ public class TestDynamicConfigurationSource extends TestConfigurationSource {
         _properties = new ConcurrentHashMap<>();
     }
 
+    /**
+     * raise a change event for the whole source
+     */
     public void setPropertyValue(String key, String value) {
+        if (updatePropertyValue(key, value))
+            raiseChangeEvent();
+    }
+
+    /**
+     * raise a change event for the key
+     */
+    public void setPropertyValueKeyed(String key, String value) {
+        if (updatePropertyValue(key, value))
+            raiseChangeEvent(Collections.singleton(key));
+    }
+
+    protected boolean updatePropertyValue(String key, String value) {
         String oldValue = _properties.get(key);
         if (Objects.equals(oldValue, value))
-            return;
+            return false;
 
         if (value == null)
             _properties.remove(key);
         else
             _properties.put(key, value);
-
-        raiseChangeEvent();
+        return true;
     }
 
 }
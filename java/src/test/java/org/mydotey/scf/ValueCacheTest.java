@@ -0,0 +1,66 @@
+package org.mydotey.scf;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mydotey.scf.facade.ConfigurationProperties;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class ValueCacheTest {
+
+    protected PropertyConfig<String, String> newConfig(String key) {
+        return ConfigurationProperties.<String, String>newConfigBuilder().setKey(key).setValueType(String.class)
+            .build();
+    }
+
+    protected void lookup(ValueCache cache, PropertyConfig<String, String> config) {
+        if (cache.get(config) == null)
+            cache.put(config, config.getKey(), null, cache.getGeneration());
+    }
+
+    @Test
+    public void testFrequencyAwareAdmission() {
+        ValueCache cache = new ValueCache(4);
+        for (int i = 0; i < 4; i++) {
+            PropertyConfig<String, String> config = newConfig("hot-" + i);
+            for (int j = 0; j < 5; j++)
+                lookup(cache, config);
+        }
+        Assert.assertEquals(4, cache.size());
+
+        // a burst of one-shot keys does not flush the hot ones
+        for (int i = 0; i < 100; i++)
+            lookup(cache, newConfig("cold-" + i));
+        for (int i = 0; i < 4; i++)
+            Assert.assertNotNull(cache.get(newConfig("hot-" + i)));
+
+        // a key getting hot is admitted
+        PropertyConfig<String, String> config = newConfig("new-hot");
+        for (int j = 0; j < 10; j++)
+            lookup(cache, config);
+        Assert.assertEquals("new-hot", cache.get(config).getValue());
+        Assert.assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        ValueCache cache = new ValueCache(4);
+        PropertyConfig<String, String> config = newConfig("key-1");
+        long generation = cache.getGeneration();
+        cache.invalidate(e -> true);
+
+        // resolved before the invalidation, not cached
+        cache.put(config, "value-1", null, generation);
+        Assert.assertNull(cache.get(config));
+
+        lookup(cache, config);
+        Assert.assertNotNull(cache.get(config));
+        cache.invalidate(java.util.Collections.singleton("key-1"), e -> true);
+        Assert.assertNull(cache.get(config));
+        Assert.assertEquals(0, cache.size());
+    }
+
+}
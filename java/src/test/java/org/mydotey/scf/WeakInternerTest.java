@@ -0,0 +1,38 @@
+package org.mydotey.scf;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class WeakInternerTest {
+
+    @Test
+    public void testIntern() throws InterruptedException {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String value = new String("value");
+        Assert.assertSame(value, interner.intern(value));
+        Assert.assertSame(value, interner.intern(new String("value")));
+        Assert.assertEquals(1, interner.size());
+
+        // dropped once not referenced
+        WeakReference<String> reference = new WeakReference<>(value);
+        value = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+        Assert.assertEquals(0, interner.size());
+
+        String value2 = new String("value");
+        Assert.assertSame(value2, interner.intern(value2));
+        Assert.assertSame(value2, interner.intern(new String("value")));
+    }
+
+}
@@ -0,0 +1,192 @@
+package org.mydotey.scf.binding;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.TestDynamicConfigurationSource;
+import org.mydotey.scf.facade.ConfigurationManagers;
+import org.mydotey.scf.facade.ConfigurationSources;
+import org.mydotey.scf.type.AbstractTypeConverter;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class ConfigurationBinderTest {
+
+    public interface DbConfig {
+
+        String getUrl();
+
+        int getPoolSize();
+
+        boolean isReadOnly();
+
+        default String getDescription() {
+            return getUrl() + (isReadOnly() ? " (read only)" : "");
+        }
+
+    }
+
+    public static class DbSettings {
+
+        private String _url;
+        private int _poolSize;
+
+        public String getUrl() {
+            return _url;
+        }
+
+        public void setUrl(String url) {
+            _url = url;
+        }
+
+        public int getPoolSize() {
+            return _poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            _poolSize = poolSize;
+        }
+
+    }
+
+    public static class OverloadedSettings {
+
+        private int _poolSize;
+
+        public int getPoolSize() {
+            return _poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            _poolSize = poolSize;
+        }
+
+        public void setPoolSize(String poolSize) {
+            _poolSize = Integer.parseInt(poolSize);
+        }
+
+    }
+
+    public static class GenericSettings<T> {
+
+        private T _url;
+
+        public T getUrl() {
+            return _url;
+        }
+
+        public void setUrl(T url) {
+            _url = url;
+        }
+
+    }
+
+    public static class StringSettings extends GenericSettings<String> {
+
+        @Override
+        public void setUrl(String url) {
+            super.setUrl(url);
+        }
+
+    }
+
+    protected TestDynamicConfigurationSource createSource() {
+        HashMap<String, String> properties = new HashMap<>();
+        properties.put("db.url", "jdbc:test");
+        properties.put("db.poolSize", "10");
+        return new TestDynamicConfigurationSource(ConfigurationSources.newConfig("test-source"), properties);
+    }
+
+    protected ConfigurationBinder createBinder(ConfigurationManager manager) {
+        return new ConfigurationBinder(manager)
+            .addValueConverter(new AbstractTypeConverter<String, Integer>(String.class, Integer.class) {
+                @Override
+                public Integer convert(String source) {
+                    return Integer.valueOf(source);
+                }
+            }).addValueConverter(new AbstractTypeConverter<String, Boolean>(String.class, Boolean.class) {
+                @Override
+                public Boolean convert(String source) {
+                    return Boolean.valueOf(source);
+                }
+            });
+    }
+
+    @Test
+    public void testBindInterface() {
+        TestDynamicConfigurationSource source = createSource();
+        ConfigurationManager manager = ConfigurationManagers.newManager(source);
+        Binding<DbConfig> binding = createBinder(manager).bind("db", DbConfig.class);
+
+        DbConfig config = binding.get();
+        Assert.assertEquals("jdbc:test", config.getUrl());
+        Assert.assertEquals(10, config.getPoolSize());
+        Assert.assertFalse(config.isReadOnly());
+
+        source.setPropertyValue("db.poolSize", "20");
+        source.setPropertyValue("db.readOnly", "true");
+        DbConfig newConfig = binding.get();
+        Assert.assertEquals(20, newConfig.getPoolSize());
+        Assert.assertTrue(newConfig.isReadOnly());
+        Assert.assertEquals("jdbc:test", newConfig.getUrl());
+
+        // the bound object is immutable
+        Assert.assertEquals(10, config.getPoolSize());
+        Assert.assertFalse(config.isReadOnly());
+    }
+
+    @Test
+    public void testBindInterfaceDefaultMethod() {
+        TestDynamicConfigurationSource source = createSource();
+        ConfigurationManager manager = ConfigurationManagers.newManager(source);
+        Binding<DbConfig> binding = createBinder(manager).bind("db", DbConfig.class);
+
+        DbConfig config = binding.get();
+        Assert.assertFalse(Proxy.isProxyClass(config.getClass()));
+        Assert.assertEquals("jdbc:test", config.getDescription());
+        Assert.assertTrue(config.toString().startsWith("DbConfig {"));
+        Assert.assertTrue(config.toString().contains("poolSize=10"));
+
+        source.setPropertyValue("db.readOnly", "true");
+        Assert.assertEquals("jdbc:test (read only)", binding.get().getDescription());
+    }
+
+    @Test
+    public void testBindPojo() {
+        TestDynamicConfigurationSource source = createSource();
+        ConfigurationManager manager = ConfigurationManagers.newManager(source);
+        Binding<DbSettings> binding = createBinder(manager).bind("db", DbSettings.class);
+
+        DbSettings settings = binding.get();
+        Assert.assertEquals("jdbc:test", settings.getUrl());
+        Assert.assertEquals(10, settings.getPoolSize());
+
+        source.setPropertyValue("db.url", "jdbc:test2");
+        Assert.assertEquals("jdbc:test2", binding.get().getUrl());
+        Assert.assertEquals(10, binding.get().getPoolSize());
+        Assert.assertEquals("jdbc:test", settings.getUrl());
+
+        source.setPropertyValue("db.other", "other");
+        Assert.assertSame(binding.get(), binding.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBindPojoOverloadedSetter() {
+        ConfigurationManager manager = ConfigurationManagers.newManager(createSource());
+        createBinder(manager).bind("db", OverloadedSettings.class);
+    }
+
+    @Test
+    public void testBindPojoBridgeSetter() {
+        ConfigurationManager manager = ConfigurationManagers.newManager(createSource());
+        Binding<StringSettings> binding = createBinder(manager).bind("db", StringSettings.class);
+        Assert.assertEquals("jdbc:test", binding.get().getUrl());
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.mydotey.scf.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(99));
+
+        for (int i = 0; i < 99; i++)
+            histogram.record(100);
+        histogram.record(10000);
+
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(99 * 100 + 10000, histogram.getTotalNanos());
+        Assert.assertEquals(10000, histogram.getMaxNanos());
+        // upper bound within 2x
+        long p50 = histogram.getPercentile(50);
+        Assert.assertTrue(p50 >= 100 && p50 < 200);
+        Assert.assertEquals(p50, histogram.getPercentile(99));
+        Assert.assertEquals(10000, histogram.getPercentile(100));
+
+        histogram.record(-1);
+        Assert.assertEquals(0, histogram.getPercentile(0));
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().getPercentile(101);
+    }
+
+}
@@ -0,0 +1,118 @@
+package org.mydotey.scf.source;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.ConfigurationSourceChangeEvent;
+import org.mydotey.scf.Property;
+import org.mydotey.scf.facade.ConfigurationManagers;
+import org.mydotey.scf.facade.ConfigurationProperties;
+import org.mydotey.scf.facade.ConfigurationSources;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class CompactConfigurationSourceTest {
+
+    protected CompactConfigurationSource createSource(boolean offHeap) {
+        CompactConfigurationSourceConfig config = ConfigurationSources.newCompactConfigBuilder()
+            .setName("compact-source").setOffHeap(offHeap).build();
+        return ConfigurationSources.newCompactSource(config);
+    }
+
+    @Test
+    public void testLookup() {
+        testLookup(false);
+        testLookup(true);
+    }
+
+    protected void testLookup(boolean offHeap) {
+        CompactConfigurationSource source = createSource(offHeap);
+        Assert.assertEquals(0, source.size());
+        Assert.assertNull(source.getPropertyValue("key-1"));
+
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 10000; i++)
+            properties.put("key-" + i, "value-" + i);
+        properties.put("键", "值");
+        properties.put("key-empty", "");
+        source.load(properties);
+
+        Assert.assertEquals(properties.size(), source.size());
+        properties.forEach((k, v) -> Assert.assertEquals(v, source.getPropertyValue(k)));
+        Assert.assertNull(source.getPropertyValue("key-10000"));
+        Assert.assertNull(source.getPropertyValue("键-1"));
+        Assert.assertNull(source.getPropertyValue(1));
+        Assert.assertEquals(ImmutableSet.of("key-1", "键"),
+            source.getPropertyValuesByKeys(ImmutableSet.of("key-1", "键", "key-10000")).keySet());
+    }
+
+    @Test
+    public void testUpdate() {
+        CompactConfigurationSource source = createSource(true);
+        source.load(ImmutableMap.of("key-1", "value-1", "key-2", "value-2", "key-3", "value-3"));
+
+        List<ConfigurationSourceChangeEvent> events = new ArrayList<>();
+        source.addChangeListener(events::add);
+
+        Map<String, String> changes = new HashMap<>();
+        changes.put("key-1", "value-1");
+        changes.put("key-2", "value-2-changed");
+        changes.put("key-3", null);
+        changes.put("key-4", "value-4");
+        source.update(changes);
+
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(ImmutableSet.of("key-2", "key-3", "key-4"), events.get(0).getChangedKeys());
+        Assert.assertEquals(3, source.size());
+        Assert.assertEquals("value-1", source.getPropertyValue("key-1"));
+        Assert.assertEquals("value-2-changed", source.getPropertyValue("key-2"));
+        Assert.assertNull(source.getPropertyValue("key-3"));
+        Assert.assertEquals("value-4", source.getPropertyValue("key-4"));
+        Assert.assertTrue(source.getKeyFilter().mightContain("key-4"));
+        Assert.assertFalse(source.getKeyFilter().mightContain("key-3"));
+        Assert.assertFalse(source.getKeyFilter().mightContain(1));
+
+        // nothing changed, no event
+        source.update(ImmutableMap.of("key-1", "value-1"));
+        Assert.assertEquals(1, events.size());
+    }
+
+    @Test
+    public void testGetKeys() {
+        CompactConfigurationSource source = createSource(false);
+        source.load(ImmutableMap.of("a", "1", "a.b", "2", "a.b.c", "3", "ab", "4"));
+
+        Assert.assertEquals(ImmutableSet.of("a", "a.b", "a.b.c", "ab"), source.getKeys(""));
+        Assert.assertEquals(ImmutableSet.of("a", "a.b", "a.b.c"), source.getKeys("a"));
+        Assert.assertEquals(ImmutableSet.of("a.b.c"), source.getKeys("a.b.c"));
+        Assert.assertEquals(ImmutableSet.of(), source.getKeys("b"));
+    }
+
+    @Test
+    public void testManager() {
+        CompactConfigurationSource source = createSource(true);
+        source.load(ImmutableMap.of("key-1", "value-1"));
+        ConfigurationManager manager = ConfigurationManagers.newManager(source);
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+        Assert.assertEquals("value-1", property.getValue());
+
+        source.update(ImmutableMap.of("key-1", "value-1-changed"));
+        Assert.assertEquals("value-1-changed", property.getValue());
+
+        source.load(ImmutableMap.of("key-2", "value-2"));
+        Assert.assertNull(property.getValue());
+    }
+
+}
@@ -0,0 +1,152 @@
+package org.mydotey.scf.source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.ConfigurationSourceChangeEvent;
+import org.mydotey.scf.Property;
+import org.mydotey.scf.facade.ConfigurationManagers;
+import org.mydotey.scf.facade.ConfigurationProperties;
+import org.mydotey.scf.facade.ConfigurationSources;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class DirectoryConfigurationSourceTest {
+
+    private Path _directory;
+    private AtomicInteger _generationCounter = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("scf-directory-source");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(_directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /**
+     * publish the files the way a container volume does: a new generation, then the "..data" symlink swap
+     */
+    protected void publish(Map<String, String> files) throws IOException {
+        Path generation = _directory.resolve("..gen_" + _generationCounter.incrementAndGet());
+        Files.createDirectory(generation);
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            Files.write(generation.resolve(file.getKey()), file.getValue().getBytes(StandardCharsets.UTF_8));
+            Path link = _directory.resolve(file.getKey());
+            if (!Files.exists(link, LinkOption.NOFOLLOW_LINKS))
+                Files.createSymbolicLink(link, Paths.get("..data", file.getKey()));
+        }
+
+        Path tempLink = _directory.resolve("..data_tmp");
+        Files.createSymbolicLink(tempLink, generation.getFileName());
+        Files.move(tempLink, _directory.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    protected DirectoryConfigurationSource createSource(boolean watchEnabled, AtomicInteger readCount) {
+        DirectoryConfigurationSourceConfig config = ConfigurationSources.newDirectoryConfigBuilder()
+            .setName("directory-source").setPath(_directory).setWatchEnabled(watchEnabled).build();
+        return new DirectoryConfigurationSource(config) {
+            @Override
+            protected String read(Path file) {
+                readCount.incrementAndGet();
+                return super.read(file);
+            }
+        };
+    }
+
+    @Test
+    public void testSymlinkSwap() throws IOException {
+        publish(ImmutableMap.of("key-1", "value-1", "key-2", "value-2", "key-3", "value-3"));
+        AtomicInteger readCount = new AtomicInteger();
+        try (DirectoryConfigurationSource source = createSource(false, readCount)) {
+            Assert.assertEquals(0, readCount.get());
+
+            ConfigurationManager manager = ConfigurationManagers.newManager(source);
+            Property<String, String> property = manager.getProperty(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+            Assert.assertEquals("value-1", property.getValue());
+            Assert.assertEquals(1, readCount.get());
+
+            List<ConfigurationSourceChangeEvent> events = new ArrayList<>();
+            source.addChangeListener(events::add);
+
+            // not swapped, nothing reloaded
+            source.reload();
+            Assert.assertEquals(0, events.size());
+
+            publish(ImmutableMap.of("key-1", "value-1-changed", "key-2", "value-2-changed", "key-4", "value-4"));
+            source.reload();
+            Assert.assertEquals(1, events.size());
+            // key-2 never read, no one to notify
+            Assert.assertEquals(ImmutableSet.of("key-1", "key-3", "key-4"), events.get(0).getChangedKeys());
+            Assert.assertEquals("value-1-changed", property.getValue());
+            Assert.assertEquals("value-2-changed", manager.getPropertyValue(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-2").setValueType(String.class).build()));
+            Assert.assertTrue(source.getKeyFilter().mightContain("key-4"));
+            Assert.assertFalse(source.getKeyFilter().mightContain("key-3"));
+        }
+    }
+
+    @Test
+    public void testPlainDirectory() throws IOException {
+        Files.write(_directory.resolve("key-1"), "value-1".getBytes(StandardCharsets.UTF_8));
+        Files.write(_directory.resolve(".hidden"), "hidden".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger readCount = new AtomicInteger();
+        try (DirectoryConfigurationSource source = createSource(false, readCount)) {
+            ConfigurationManager manager = ConfigurationManagers.newManager(source);
+            Property<String, String> property = manager.getProperty(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+            Assert.assertEquals("value-1", property.getValue());
+            Assert.assertNull(manager.getPropertyValue(ConfigurationProperties.<String, String>newConfigBuilder()
+                .setKey(".hidden").setValueType(String.class).build()));
+
+            Files.write(_directory.resolve("key-1"), "value-1-changed".getBytes(StandardCharsets.UTF_8));
+            source.reload();
+            Assert.assertEquals("value-1-changed", property.getValue());
+        }
+    }
+
+    @Test
+    public void testWatch() throws IOException, InterruptedException {
+        publish(ImmutableMap.of("key-1", "value-1"));
+        try (DirectoryConfigurationSource source = createSource(true, new AtomicInteger())) {
+            BlockingQueue<ConfigurationSourceChangeEvent> events = new LinkedBlockingQueue<>();
+            source.addChangeListener(events::add);
+
+            publish(ImmutableMap.of("key-1", "value-1", "key-2", "value-2"));
+            ConfigurationSourceChangeEvent event = events.poll(30, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            Assert.assertEquals(ImmutableSet.of("key-2"), event.getChangedKeys());
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.mydotey.scf.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.ConfigurationSourceChangeEvent;
+import org.mydotey.scf.Property;
+import org.mydotey.scf.facade.ConfigurationManagers;
+import org.mydotey.scf.facade.ConfigurationProperties;
+import org.mydotey.scf.facade.ConfigurationSources;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class EnvironmentConfigurationSourceTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty("scf.test.pool.size");
+        System.clearProperty("scf.test.timeout");
+    }
+
+    @Test
+    public void testRelaxedKeys() {
+        System.setProperty("scf.test.pool.size", "10");
+        EnvironmentConfigurationSource source = ConfigurationSources.newEnvironmentSource("environment");
+        ConfigurationManager manager = ConfigurationManagers.newManager(source);
+
+        for (String key : new String[] { "scf.test.pool.size", "SCF_TEST_POOL_SIZE", "scf-test-pool-size" }) {
+            Assert.assertEquals("10", manager.getPropertyValue(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey(key).setValueType(String.class).build()));
+        }
+
+        String path = System.getenv("PATH");
+        if (path != null) {
+            Assert.assertEquals(path, manager.getPropertyValue(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("path").setValueType(String.class).build()));
+        }
+    }
+
+    @Test
+    public void testRefresh() {
+        System.setProperty("scf.test.pool.size", "10");
+        EnvironmentConfigurationSource source = ConfigurationSources.newEnvironmentSource("environment");
+        ConfigurationManager manager = ConfigurationManagers.newManager(source);
+        Property<String, String> property = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("SCF_TEST_POOL_SIZE").setValueType(String.class).build());
+        Property<String, String> property2 = manager.getProperty(ConfigurationProperties
+            .<String, String>newConfigBuilder().setKey("scf.test.timeout").setValueType(String.class).build());
+        Assert.assertEquals("10", property.getValue());
+        Assert.assertNull(property2.getValue());
+
+        List<ConfigurationSourceChangeEvent> events = new ArrayList<>();
+        source.addChangeListener(events::add);
+
+        source.refresh();
+        Assert.assertEquals(0, events.size());
+
+        // the spellings of the existing keys found are remembered
+        System.setProperty("scf.test.pool.size", "20");
+        source.refresh();
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(ImmutableSet.of("SCF_TEST_POOL_SIZE"), events.get(0).getChangedKeys());
+        Assert.assertEquals("20", property.getValue());
+
+        // the spellings not found are not, a key added changes the whole source
+        System.setProperty("scf.test.timeout", "1000");
+        source.refresh();
+        Assert.assertEquals(2, events.size());
+        Assert.assertTrue(events.get(1).isFullReload());
+        Assert.assertTrue(source.getKeyFilter().mightContain("SCF_TEST_TIMEOUT"));
+        Assert.assertEquals("20", property.getValue());
+        Assert.assertEquals("1000", property2.getValue());
+
+        System.clearProperty("scf.test.timeout");
+        source.refresh();
+        Assert.assertEquals(3, events.size());
+        Assert.assertEquals(ImmutableSet.of("scf.test.timeout"), events.get(2).getChangedKeys());
+        Assert.assertNull(property2.getValue());
+        Assert.assertFalse(source.getKeyFilter().mightContain("scf.test.timeout"));
+        Assert.assertTrue(source.getKeyFilter().mightContain("SCF_TEST_POOL_SIZE"));
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.mydotey.scf.source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mydotey.scf.ConfigurationManager;
+import org.mydotey.scf.ConfigurationSourceChangeEvent;
+import org.mydotey.scf.Property;
+import org.mydotey.scf.facade.ConfigurationManagers;
+import org.mydotey.scf.facade.ConfigurationProperties;
+import org.mydotey.scf.facade.ConfigurationSources;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class FileConfigurationSourceTest {
+
+    private Path _directory;
+    private Path _file;
+
+    @Before
+    public void setUp() throws IOException {
+        _directory = Files.createTempDirectory("scf-file-source");
+        _file = _directory.resolve("app.properties");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(_file);
+        Files.deleteIfExists(_directory);
+    }
+
+    protected void write(String... lines) throws IOException {
+        List<String> content = new ArrayList<>();
+        for (String line : lines)
+            content.add(line);
+        Files.write(_file, content, StandardCharsets.UTF_8);
+    }
+
+    protected FileConfigurationSource createSource(boolean watchEnabled) {
+        FileConfigurationSourceConfig config = ConfigurationSources.newFileConfigBuilder().setName("file-source")
+            .setPath(_file).setWatchEnabled(watchEnabled).build();
+        return ConfigurationSources.newFileSource(config);
+    }
+
+    @Test
+    public void testReloadRaisesChangedKeys() throws IOException {
+        write("key-1=value-1", "key-2=value-2", "key-3=value-3", "key-4=\\u4e2d\u6587");
+        try (FileConfigurationSource source = createSource(false)) {
+            ConfigurationManager manager = ConfigurationManagers.newManager(source);
+            Property<String, String> property1 = manager.getProperty(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-1").setValueType(String.class).build());
+            Property<String, String> property2 = manager.getProperty(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-2").setValueType(String.class).build());
+            Assert.assertEquals("value-1", property1.getValue());
+            Assert.assertEquals("value-2", property2.getValue());
+            Assert.assertEquals("\u4e2d\u6587", manager.getPropertyValue(ConfigurationProperties
+                .<String, String>newConfigBuilder().setKey("key-4").setValueType(String.class).build()));
+
+            List<ConfigurationSourceChangeEvent> events = new ArrayList<>();
+            source.addChangeListener(events::add);
+
+            write("key-1=value-1", "key-2=value-2-changed", "key-4=\\u4e2d\u6587", "key-5=value-5");
+            source.reload();
+            Assert.assertEquals(1, events.size());
+            Assert.assertEquals(ImmutableSet.of("key-2", "key-3", "key-5"), events.get(0).getChangedKeys());
+            Assert.assertEquals("value-1", property1.getValue());
+            Assert.assertEquals("value-2-changed", property2.getValue());
+
+            source.reload();
+            Assert.assertEquals(1, events.size());
+            Assert.assertTrue(source.getKeyFilter().mightContain("key-5"));
+            Assert.assertFalse(source.getKeyFilter().mightContain("key-3"));
+
+            Assert.assertEquals(ImmutableSet.of("key-1", "key-2", "key-4", "key-5"), source.getKeys(""));
+            Assert.assertEquals(ImmutableSet.of("key-1", "key-2", "key-4", "key-5"), manager.getKeysByPrefix(""));
+        }
+    }
+
+    @Test
+    public void testFileNotExists() throws IOException {
+        try (FileConfigurationSource source = createSource(false)) {
+            List<ConfigurationSourceChangeEvent> events = new ArrayList<>();
+            source.addChangeListener(events::add);
+
+            write("key-1=value-1");
+            source.reload();
+            Assert.assertEquals(1, events.size());
+            Assert.assertEquals(ImmutableSet.of("key-1"), events.get(0).getChangedKeys());
+
+            // a missing file keeps the current properties, an empty file removes them
+            Files.delete(_file);
+            source.reload();
+            Assert.assertEquals(1, events.size());
+            Assert.assertEquals(ImmutableSet.of("key-1"), source.getKeys(""));
+
+            write();
+            source.reload();
+            Assert.assertEquals(2, events.size());
+            Assert.assertEquals(ImmutableSet.of("key-1"), events.get(1).getChangedKeys());
+            Assert.assertTrue(source.getKeys("").isEmpty());
+        }
+    }
+
+    @Test
+    public void testMalformedFile() throws IOException {
+        write("key-1=value-1", "key-2=value-2");
+        try (FileConfigurationSource source = createSource(false)) {
+            List<ConfigurationSourceChangeEvent> events = new ArrayList<>();
+            source.addChangeListener(events::add);
+
+            Files.write(_file, new byte[] { 'k', 'e', 'y', '-', '1', '=', (byte) 0xff, (byte) 0xfe, '\n' });
+            source.reload();
+            Files.write(_file, "key-1=\\u00zz\n".getBytes(StandardCharsets.UTF_8));
+            source.reload();
+            Assert.assertTrue(events.isEmpty());
+            Assert.assertEquals(ImmutableSet.of("key-1", "key-2"), source.getKeys(""));
+        }
+    }
+
+    @Test
+    public void testWatch() throws IOException, InterruptedException {
+        write("key-1=value-1", "key-2=value-2");
+        try (FileConfigurationSource source = createSource(true)) {
+            BlockingQueue<ConfigurationSourceChangeEvent> events = new LinkedBlockingQueue<>();
+            source.addChangeListener(events::add);
+
+            // replace the file atomically, so that no partially written file is read
+            Path temp = _directory.resolve("app.properties.tmp");
+            Files.write(temp, "key-1=value-1\nkey-2=value-2-changed\n".getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, _file, StandardCopyOption.ATOMIC_MOVE);
+            ConfigurationSourceChangeEvent event = events.poll(30, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            Assert.assertEquals(ImmutableSet.of("key-2"), event.getChangedKeys());
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.mydotey.scf.threading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class StripedTaskExecutorTest {
+
+    @Test
+    public void testKeyedTasksInOrder() throws InterruptedException {
+        int keyCount = 16;
+        int taskCount = 1000;
+        List<List<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < keyCount; i++)
+            results.add(Collections.synchronizedList(new ArrayList<>()));
+
+        CountDownLatch done = new CountDownLatch(keyCount * taskCount);
+        try (StripedTaskExecutor executor = new StripedTaskExecutor(4)) {
+            for (int i = 0; i < taskCount; i++) {
+                for (int k = 0; k < keyCount; k++) {
+                    int key = k;
+                    int value = i;
+                    executor.accept("key-" + key, () -> {
+                        results.get(key).add(value);
+                        done.countDown();
+                    });
+                }
+            }
+
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        for (List<Integer> result : results) {
+            Assert.assertEquals(taskCount, result.size());
+            for (int i = 0; i < taskCount; i++)
+                Assert.assertEquals(i, result.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testFailedTaskNotBreakLane() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(2);
+        try (StripedTaskExecutor executor = new StripedTaskExecutor(1)) {
+            executor.accept("key", () -> {
+                throw new IllegalStateException("test");
+            });
+            executor.accept("key", done::countDown);
+            executor.accept(done::countDown);
+
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveLaneCount() {
+        new StripedTaskExecutor(0);
+    }
+
+}
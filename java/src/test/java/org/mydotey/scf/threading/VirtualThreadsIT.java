@@ -0,0 +1,48 @@
+package org.mydotey.scf.threading;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * run by failsafe against the multi-release jar on JDK 21+, so that the Java 21 overlay is loaded
+ *
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class VirtualThreadsIT {
+
+    @Test
+    public void testOverlayLoaded() throws Exception {
+        Assert.assertTrue(VirtualThreads.isSupported());
+
+        Thread thread = VirtualThreads.newThreadFactory("scf-test-").newThread(() -> {
+        });
+        Assert.assertEquals("scf-test-0", thread.getName());
+        Assert.assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+
+    @Test
+    public void testThreadPerTaskExecutor() throws Exception {
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("scf-test-");
+        try {
+            executor.execute(() -> {
+                taskThread.set(Thread.currentThread());
+                done.countDown();
+            });
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(taskThread.get()));
+    }
+
+}
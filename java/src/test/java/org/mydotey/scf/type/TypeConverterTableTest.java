@@ -0,0 +1,110 @@
+package org.mydotey.scf.type;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mydotey.scf.DefaultPropertyConfig;
+import org.mydotey.scf.facade.ConfigurationProperties;
+
+/**
+ * @author agent
+ *
+ * Oct 18, 2026
+ */
+public class TypeConverterTableTest {
+
+    protected static class CountingConverter<S, T> extends AbstractTypeConverter<S, T> {
+
+        private T _result;
+        private AtomicInteger _lookupCount = new AtomicInteger();
+        private AtomicInteger _convertCount = new AtomicInteger();
+
+        public CountingConverter(Class<S> sourceType, Class<T> targetType, T result) {
+            super(sourceType, targetType);
+            _result = result;
+        }
+
+        @Override
+        public Class<S> getSourceType() {
+            _lookupCount.incrementAndGet();
+            return super.getSourceType();
+        }
+
+        @Override
+        public T convert(S source) {
+            _convertCount.incrementAndGet();
+            return _result;
+        }
+
+    }
+
+    @Test
+    public void testDispatch() {
+        CountingConverter<String, Integer> stringConverter = new CountingConverter<>(String.class, Integer.class, 1);
+        CountingConverter<Long, Integer> longConverter = new CountingConverter<>(Long.class, Integer.class, 2);
+        CountingConverter<String, String> stringToStringConverter = new CountingConverter<>(String.class,
+            String.class, "s");
+        TypeConverterTable<Integer> table = new TypeConverterTable<>(Integer.class,
+            Arrays.asList(stringConverter, longConverter, stringToStringConverter));
+
+        // by the raw class of the value, and the target type
+        Assert.assertEquals(Integer.valueOf(1), table.convert("x"));
+        Assert.assertEquals(Integer.valueOf(2), table.convert(1L));
+        Assert.assertEquals(1, stringConverter._convertCount.get());
+        Assert.assertEquals(1, longConverter._convertCount.get());
+        Assert.assertEquals(0, stringToStringConverter._convertCount.get());
+
+        // no converter, assignable to the target type
+        Assert.assertEquals(Integer.valueOf(3), table.convert(3));
+        // no converter, not assignable
+        Assert.assertNull(table.convert(1.0));
+        Assert.assertNull(table.convert(null));
+    }
+
+    @Test
+    public void testOrder() {
+        CountingConverter<String, Integer> nullConverter = new CountingConverter<>(String.class, Integer.class, null);
+        CountingConverter<Object, Integer> objectConverter = new CountingConverter<>(Object.class, Integer.class, 1);
+        CountingConverter<CharSequence, Integer> charSequenceConverter = new CountingConverter<>(CharSequence.class,
+            Integer.class, 2);
+        TypeConverterTable<Integer> table = new TypeConverterTable<>(Integer.class,
+            Arrays.asList(nullConverter, objectConverter, charSequenceConverter));
+
+        // the first non-null result in the order of the converters
+        Assert.assertEquals(Integer.valueOf(1), table.convert("x"));
+        Assert.assertEquals(1, nullConverter._convertCount.get());
+        Assert.assertEquals(1, objectConverter._convertCount.get());
+        Assert.assertEquals(0, charSequenceConverter._convertCount.get());
+
+        TypeConverterTable<Integer> table2 = new TypeConverterTable<>(Integer.class,
+            Arrays.asList(charSequenceConverter, objectConverter));
+        Assert.assertEquals(Integer.valueOf(2), table2.convert("x"));
+    }
+
+    @Test
+    public void testCacheReuse() {
+        CountingConverter<String, Integer> converter = new CountingConverter<>(String.class, Integer.class, 1);
+        DefaultPropertyConfig<String, Integer> config = (DefaultPropertyConfig<String, Integer>) ConfigurationProperties
+            .<String, Integer>newConfigBuilder().setKey("key").setValueType(Integer.class).addValueConverter(converter)
+            .build();
+
+        TypeConverterTable<Integer> table = config.getValueConverterTable();
+        Assert.assertSame(table, config.getValueConverterTable());
+
+        Assert.assertEquals(Integer.valueOf(1), table.convert("x"));
+        int lookupCount = converter._lookupCount.get();
+        Assert.assertTrue(lookupCount > 0);
+
+        // the dispatch of a raw class is computed once
+        for (int i = 0; i < 10; i++)
+            Assert.assertEquals(Integer.valueOf(1), config.getValueConverterTable().convert("y" + i));
+        Assert.assertEquals(lookupCount, converter._lookupCount.get());
+        Assert.assertEquals(11, converter._convertCount.get());
+
+        table.convert(1L);
+        Assert.assertEquals(lookupCount + 1, converter._lookupCount.get());
+    }
+
+}